@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.Entity;
@@ -33,7 +34,10 @@ import powercrystals.minefactoryreloaded.api.INeedleAmmo;
 import powercrystals.minefactoryreloaded.api.IRandomMobProvider;
 import powercrystals.minefactoryreloaded.api.ISafariNetHandler;
 import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.core.EntityClassInfo;
 import powercrystals.minefactoryreloaded.core.UtilInventory;
+import powercrystals.minefactoryreloaded.item.SafariNetCapture;
+import powercrystals.minefactoryreloaded.world.MineFactoryReloadedWorldGen;
 
 public abstract class MFRRegistry
 {
@@ -82,6 +86,8 @@ public abstract class MFRRegistry
 	private static List<Class<? extends Entity>> _conveyerBlacklist =
 			new ArrayList<Class<? extends Entity>>();
 
+	private static Map<Class<?>, EntityClassInfo> _entityClassInfo = new ConcurrentHashMap<Class<?>, EntityClassInfo>();
+
 	private static Map<String, Boolean> _unifierBlacklist  = new TreeMap<String, Boolean>();
 
 	private static List<WeightedRandom.Item> _laserOres  = new ArrayList<WeightedRandom.Item>();
@@ -130,6 +136,7 @@ public abstract class MFRRegistry
 	public static void registerRanchable(IFactoryRanchable ranchable)
 	{
 		_ranchables.put(ranchable.getRanchableEntity(), ranchable);
+		_entityClassInfo.clear();
 	}
 
 	public static Map<Class<? extends EntityLivingBase>, IFactoryRanchable> getRanchables()
@@ -140,6 +147,7 @@ public abstract class MFRRegistry
 	public static void registerGrindable(IFactoryGrindable grindable)
 	{
 		_grindables.put(grindable.getGrindableEntity(), grindable);
+		_entityClassInfo.clear();
 	}
 
 	public static Map<Class<? extends EntityLivingBase>, IFactoryGrindable> getGrindables()
@@ -152,6 +160,7 @@ public abstract class MFRRegistry
 		_grindableBlacklist.add(ungrindable);
 		if (MFRRegistry._safariNetBlacklist.contains(ungrindable))
 			_slaughterhouseBlacklist.add(ungrindable);
+		_entityClassInfo.clear();
 	}
 
 	public static List<Class<?>> getGrinderBlacklist()
@@ -187,6 +196,7 @@ public abstract class MFRRegistry
 	public static void registerSafariNetHandler(ISafariNetHandler handler)
 	{
 		_safariNetHandlers.add(handler);
+		SafariNetCapture.clearCache();
 	}
 
 	public static List<ISafariNetHandler> getSafariNetHandlers()
@@ -197,6 +207,7 @@ public abstract class MFRRegistry
 	public static void registerRubberTreeBiome(String biome)
 	{
 		_rubberTreeBiomes.add(biome);
+		MineFactoryReloadedWorldGen.clearBiomeFlags();
 	}
 
 	public static List<String> getRubberTreeBiomes()
@@ -209,6 +220,7 @@ public abstract class MFRRegistry
 		_safariNetBlacklist.add(entityClass);
 		if (MFRRegistry._grindableBlacklist.contains(entityClass))
 			_slaughterhouseBlacklist.add(entityClass);
+		_entityClassInfo.clear();
 	}
 
 	public static List<Class<?>> getSafariNetBlacklist()
@@ -286,6 +298,7 @@ public abstract class MFRRegistry
 	public static void registerAutoSpawnerBlacklistClass(Class<? extends EntityLivingBase> entityClass)
 	{
 		_autoSpawnerClassBlacklist.add(entityClass);
+		_entityClassInfo.clear();
 	}
 
 	public static List<Class<?>> getAutoSpawnerClassBlacklist()
@@ -306,6 +319,7 @@ public abstract class MFRRegistry
 	public static void registerSpawnHandler(IMobSpawnHandler spawnHandler)
 	{
 		_spawnHandlers.put(spawnHandler.getMobClass(), spawnHandler);
+		_entityClassInfo.clear();
 	}
 
 	public static Map<Class<? extends EntityLivingBase>, IMobSpawnHandler> getSpawnHandlers()
@@ -336,6 +350,7 @@ public abstract class MFRRegistry
 	public static void registerConveyerBlacklist(Class<? extends Entity> entityClass)
 	{
 		_conveyerBlacklist.add(entityClass);
+		_entityClassInfo.clear();
 	}
 
 	public static List<Class<? extends Entity>> getConveyerBlacklist()
@@ -343,6 +358,48 @@ public abstract class MFRRegistry
 		return _conveyerBlacklist;
 	}
 
+	/**
+	 * Resolves the handlers and blacklist verdicts that apply to <tt>entityClass</tt>. Handlers registered
+	 * for a superclass apply to its subclasses unless a subclass has its own; the result is cached until the
+	 * next registration.
+	 */
+	public static EntityClassInfo getEntityClassInfo(Class<?> entityClass)
+	{
+		EntityClassInfo info = _entityClassInfo.get(entityClass);
+		if (info == null)
+		{
+			info = new EntityClassInfo(findHandler(_grindables, entityClass),
+					findHandler(_ranchables, entityClass),
+					findHandler(_spawnHandlers, entityClass),
+					isAssignableToAny(_grindableBlacklist, entityClass),
+					isAssignableToAny(_slaughterhouseBlacklist, entityClass),
+					_safariNetBlacklist.contains(entityClass),
+					isAssignableToAny(_conveyerBlacklist, entityClass),
+					isAssignableToAny(_autoSpawnerClassBlacklist, entityClass));
+			_entityClassInfo.put(entityClass, info);
+		}
+		return info;
+	}
+
+	private static <T> T findHandler(Map<Class<? extends EntityLivingBase>, T> handlers, Class<?> entityClass)
+	{
+		for (Class<?> c = entityClass; c != null; c = c.getSuperclass())
+		{
+			T handler = handlers.get(c);
+			if (handler != null)
+				return handler;
+		}
+		return null;
+	}
+
+	private static boolean isAssignableToAny(List<? extends Class<?>> classes, Class<?> entityClass)
+	{
+		for (int i = 0, e = classes.size(); i < e; ++i)
+			if (classes.get(i).isAssignableFrom(entityClass))
+				return true;
+		return false;
+	}
+
 	public static void addLaserPreferredOre(int color, ItemStack ore)
 	{
 		if(color < 0 || 16 <= color) return;
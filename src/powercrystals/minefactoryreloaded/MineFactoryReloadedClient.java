@@ -19,16 +19,16 @@ import cpw.mods.fml.common.registry.VillagerRegistry;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.model.ModelBiped;
 import net.minecraft.client.model.ModelSlime;
 import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.culling.Frustrum;
 import net.minecraft.client.renderer.entity.RenderSnowball;
 import net.minecraft.client.resources.IReloadableResourceManager;
 import net.minecraft.client.resources.IResourceManager;
@@ -37,7 +37,6 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.MovingObjectPosition;
 import net.minecraft.util.ResourceLocation;
@@ -70,6 +69,7 @@ import powercrystals.minefactoryreloaded.gui.container.ContainerFisher;
 import powercrystals.minefactoryreloaded.gui.slot.SlotAcceptLaserFocus;
 import powercrystals.minefactoryreloaded.gui.slot.SlotAcceptReusableSafariNet;
 import powercrystals.minefactoryreloaded.item.gun.ItemRocketLauncher;
+import powercrystals.minefactoryreloaded.render.HarvestAreaOverlay;
 import powercrystals.minefactoryreloaded.render.block.BlockTankRenderer;
 import powercrystals.minefactoryreloaded.render.block.ConveyorRenderer;
 import powercrystals.minefactoryreloaded.render.block.DetCordRenderer;
@@ -121,7 +121,8 @@ public class MineFactoryReloadedClient implements IResourceManagerReloadListener
 
 	public static HashMap<BlockPosition, Integer> prcPages = new HashMap<BlockPosition, Integer>();
 
-	public static Set<IHarvestAreaContainer> _areaTileEntities = new LinkedHashSet<IHarvestAreaContainer>();
+	private static HarvestAreaOverlay _areaOverlay = new HarvestAreaOverlay();
+	private static List<HarvestAreaOverlay.Entry> _visibleAreas = new ArrayList<HarvestAreaOverlay.Entry>();
 
 	public static void init()
 	{
@@ -297,7 +298,7 @@ public class MineFactoryReloadedClient implements IResourceManagerReloadListener
 	@SubscribeEvent
 	public void onPlayerChangedDimension(PlayerChangedDimensionEvent player)
 	{
-		_areaTileEntities.clear();
+		_areaOverlay.clear();
 	}
 
 	@SubscribeEvent
@@ -467,9 +468,18 @@ public class MineFactoryReloadedClient implements IResourceManagerReloadListener
 			return;
 		}
 
-		float playerOffsetX = -(float)(player.lastTickPosX + (player.posX - player.lastTickPosX) * e.partialTicks);
-		float playerOffsetY = -(float)(player.lastTickPosY + (player.posY - player.lastTickPosY) * e.partialTicks);
-		float playerOffsetZ = -(float)(player.lastTickPosZ + (player.posZ - player.lastTickPosZ) * e.partialTicks);
+		double viewX = player.lastTickPosX + (player.posX - player.lastTickPosX) * e.partialTicks;
+		double viewY = player.lastTickPosY + (player.posY - player.lastTickPosY) * e.partialTicks;
+		double viewZ = player.lastTickPosZ + (player.posZ - player.lastTickPosZ) * e.partialTicks;
+
+		Frustrum frustum = new Frustrum();
+		frustum.setPosition(viewX, viewY, viewZ);
+		List<HarvestAreaOverlay.Entry> areas = _visibleAreas;
+		_areaOverlay.collect(viewX, viewY, viewZ, MFRConfig.areaOverlayRange.getInt(), frustum, areas);
+		if (areas.isEmpty())
+		{
+			return;
+		}
 
 		GL11.glColorMask(true, true, true, true);
 		GL11.glEnable(GL11.GL_ALPHA_TEST);
@@ -480,41 +490,33 @@ public class MineFactoryReloadedClient implements IResourceManagerReloadListener
 		GL11.glDisable(GL11.GL_TEXTURE_2D);
 		GL11.glShadeModel(GL11.GL_FLAT);
 
-		for (IHarvestAreaContainer c : _areaTileEntities)
+		GL11.glPushMatrix();
+		GL11.glTranslated(-viewX, -viewY, -viewZ);
+		Tessellator tessellator = Tessellator.instance;
+		tessellator.startDrawingQuads();
+		for (int i = 0, end = areas.size(); i < end; ++i)
 		{
-			if(((TileEntity)c).isInvalid())
-				continue;
-
-			float r = colorFromCoord(c.getHAM().getOriginX(), 0xF8525888);
-			float g = colorFromCoord(c.getHAM().getOriginY(), 0x85BDBD8C);
-			float b = colorFromCoord(c.getHAM().getOriginZ(), 0x997696BF);
-
-			GL11.glPushMatrix();
-			GL11.glColor4f(r, g, b, 0.4F);
-			GL11.glTranslatef(playerOffsetX, playerOffsetY, playerOffsetZ);
-			renderAABB(c.getHAM().getHarvestArea().toAxisAlignedBB());
-			GL11.glPopMatrix();
+			HarvestAreaOverlay.Entry area = areas.get(i);
+			tessellator.setColorRGBA_F(area.red, area.green, area.blue, 0.4F);
+			double[] v = area.vertices;
+			for (int j = 0; j < v.length; j += 3)
+				tessellator.addVertex(v[j], v[j + 1], v[j + 2]);
 		}
+		tessellator.draw();
+		GL11.glPopMatrix();
+		areas.clear();
 
 		GL11.glEnable(GL11.GL_TEXTURE_2D);
 	}
 
-	private float colorFromCoord(int c, long h)
-	{
-		h = (h * c) + 0xBA;
-		h ^= (h >>> 20) ^ (h >>> 12);
-		h ^= (h >>> 7) ^ (h >>> 4);
-		return ((h & 255) / 319f) + 0.1f; // odd values bound to 0.1 <= x < 0.9
-	}
-
 	public static void addTileToAreaList(IHarvestAreaContainer tile)
 	{
-		_areaTileEntities.add(tile);
+		_areaOverlay.add(tile);
 	}
 
 	public static void removeTileFromAreaList(IHarvestAreaContainer tile)
 	{
-		_areaTileEntities.remove(tile);
+		_areaOverlay.remove(tile);
 	}
 
 	public int getLockedEntity()
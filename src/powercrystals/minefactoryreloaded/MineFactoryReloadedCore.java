@@ -103,6 +103,7 @@ import powercrystals.minefactoryreloaded.block.transport.BlockRailCargoPickup;
 import powercrystals.minefactoryreloaded.block.transport.BlockRailPassengerDropoff;
 import powercrystals.minefactoryreloaded.block.transport.BlockRailPassengerPickup;
 import powercrystals.minefactoryreloaded.block.transport.BlockRedNetCable;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.entity.DebugTracker;
 import powercrystals.minefactoryreloaded.entity.EntityFishingRod;
 import powercrystals.minefactoryreloaded.entity.EntityNeedle;
@@ -148,8 +149,11 @@ import powercrystals.minefactoryreloaded.item.tool.ItemRuler;
 import powercrystals.minefactoryreloaded.item.tool.ItemSpyglass;
 import powercrystals.minefactoryreloaded.item.tool.ItemStraw;
 import powercrystals.minefactoryreloaded.item.tool.ItemXpExtractor;
+import powercrystals.minefactoryreloaded.net.AreaSyncMessage;
+import powercrystals.minefactoryreloaded.net.BlockChangeTracker;
 import powercrystals.minefactoryreloaded.net.EntityHandler;
 import powercrystals.minefactoryreloaded.net.IMFRProxy;
+import powercrystals.minefactoryreloaded.net.NeighborCacheResolver;
 import powercrystals.minefactoryreloaded.net.ServerPacketHandler;
 import powercrystals.minefactoryreloaded.net.ServerPacketHandler.MFRMessage;
 import powercrystals.minefactoryreloaded.setup.BehaviorDispenseSafariNet;
@@ -286,6 +290,7 @@ public class MineFactoryReloadedCore extends BaseMod
 
 		networkWrapper = new SimpleNetworkWrapper(modNetworkChannel);
 		networkWrapper.registerMessage(ServerPacketHandler.class, MFRMessage.class, 0, Side.SERVER);
+		networkWrapper.registerMessage(AreaSyncMessage.Handler.class, AreaSyncMessage.class, 1, Side.CLIENT);
 
 		float meatNuggetSaturation = MFRConfig.meatSaturation.getBoolean(false) ? 0.1F : 0.2F;
 		float meatIngotSaturation = MFRConfig.meatSaturation.getBoolean(false) ? 0.2F : 0.8F;
@@ -593,6 +598,9 @@ public class MineFactoryReloadedCore extends BaseMod
 		MinecraftForge.EVENT_BUS.register(rednetCableBlock);
 		MinecraftForge.EVENT_BUS.register(plasticPipeBlock);
 		MinecraftForge.EVENT_BUS.register(new EntityHandler());
+		MinecraftForge.EVENT_BUS.register(new NeighborCacheResolver());
+		MinecraftForge.EVENT_BUS.register(new AreaSyncMessage.ChunkWatcher());
+		MinecraftForge.EVENT_BUS.register(new BlockChangeTracker.UnloadHandler());
 
 		proxy.init();
 		MFRFarmables.load();
@@ -802,6 +810,7 @@ public class MineFactoryReloadedCore extends BaseMod
 	public void remap(FMLModIdMappingEvent evt)
 	{
 		powercrystals.minefactoryreloaded.core.OreDictionaryArbiter.bake();
+		FluidHandle.resolveAll();
 	}
 
 	@Override
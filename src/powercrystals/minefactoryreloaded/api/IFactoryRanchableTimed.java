@@ -0,0 +1,25 @@
+package powercrystals.minefactoryreloaded.api;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.world.World;
+
+/**
+ * Optional extension of {@link IFactoryRanchable} for entities that can say when they will next have something
+ * to give. The Rancher will not visit such an entity again until then.
+ * <p>
+ * Ranchables that do not implement this interface are retried on a fixed interval after a visit yields nothing.
+ */
+public interface IFactoryRanchableTimed extends IFactoryRanchable {
+
+	/**
+	 * @param world
+	 *            The world this entity is in.
+	 * @param entity
+	 *            The entity instance being ranched.
+	 *
+	 * @return The total world time at which {@link #ranch} may next return drops for this entity, or a negative
+	 *         number if that is not known (e.g., it depends on the entity eating grass).
+	 */
+	public long getNextRanchTime(World world, EntityLivingBase entity);
+
+}
@@ -0,0 +1,34 @@
+package powercrystals.minefactoryreloaded.api.rednet;
+
+/**
+ * Optional extension of {@link IRedNetLogicCircuit} for circuits that can write their results
+ * directly into a caller-owned array instead of allocating a new one every evaluation.
+ * <p>
+ * Programmable RedNet Controllers evaluate every circuit every tick; circuits implementing this
+ * interface are called through {@link #recalculateOutputValues(long, int[], int[])} exclusively.
+ * The array-returning method must still be implemented for callers that do not know about this interface.
+ * <p>
+ * Controllers only re-evaluate a circuit when its inputs change, unless it reports itself as time-dependent.
+ * Circuits that do not implement this interface are always treated as time-dependent.
+ */
+public interface IRedNetLogicCircuitInPlace extends IRedNetLogicCircuit
+{
+	/**
+	 * Recalculates the outputs of this circuit.
+	 * 
+	 * @param worldTime The total world time.
+	 * @param inputValues The current input values. This array will be exactly getInputCount() elements long. Do not alter or cache.
+	 * @param outputValues The array to write the new output values to. This array will be exactly getOutputCount() elements long,
+	 * and still contains the values written by the previous evaluation. Every output must be written. Do not cache.
+	 */
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues);
+
+	/**
+	 * Circuits that are not time-dependent must reach stable outputs after being evaluated twice in a row
+	 * with the same inputs; edge detectors that remember the previous input satisfy this.
+	 * 
+	 * @return True if this circuit's outputs can change while its inputs stay the same (e.g., it reads the world time,
+	 * counts ticks, or is random), and so must be evaluated every tick.
+	 */
+	public boolean isTimeDependent();
+}
@@ -107,6 +107,12 @@ public class BlockRedNetPanel extends BlockFactory implements IRedNetInputNode
 			world.markBlockForUpdate(x, y, z);
 			return true;
 		}
+		else if(te instanceof TileEntityRedNetHistorian && s == null && player.isSneaking())
+		{
+			((TileEntityRedNetHistorian)te).cycleTimeScale();
+			world.markBlockForUpdate(x, y, z);
+			return true;
+		}
 		return false;
 	}
 
@@ -288,10 +288,8 @@ public class BlockConveyor extends BlockFactory implements IRedNetInputNode
 	public void onEntityCollidedWithBlock(World world, int x, int y, int z, Entity entity)
 	{
 		boolean isItem = entity instanceof EntityItem || entity instanceof EntityXPOrb;
-		if (!isItem)
-			for (Class<?> blacklist : MFRRegistry.getConveyerBlacklist())
-				if (blacklist.isInstance(entity))
-					return;
+		if (!isItem && MFRRegistry.getEntityClassInfo(entity.getClass()).conveyerBlacklisted)
+			return;
 
 		if (!(isItem || entity instanceof EntityLivingBase || entity instanceof EntityTNTPrimed))
 			return;
@@ -17,10 +17,13 @@ public class Fanout extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		return new int[] { inputValues[0], inputValues[0], inputValues[0], inputValues[0], inputValues[0], inputValues[0], inputValues[0], inputValues[0],
-				inputValues[0], inputValues[0], inputValues[0], inputValues[0], inputValues[0], inputValues[0], inputValues[0], inputValues[0]};
+		int value = inputValues[0];
+		for(int i = 0; i < 16; i++)
+		{
+			outputValues[i] = value;
+		}
 	}
 	
 	@Override
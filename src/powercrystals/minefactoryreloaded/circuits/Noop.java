@@ -17,9 +17,8 @@ public class Noop extends StatelessCircuit
 	}
 
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		return new int[getOutputCount()];
 	}
 
 	@Override
@@ -17,10 +17,9 @@ public class PassthroughGated extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		int output = inputValues[1] > 0 ? inputValues[0] : 0;
-		return new int[] { output };
+		outputValues[0] = inputValues[1] > 0 ? inputValues[0] : 0;
 	}
 	
 	@Override
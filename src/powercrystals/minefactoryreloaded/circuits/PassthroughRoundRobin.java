@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class PassthroughRoundRobin implements IRedNetLogicCircuit
+public class PassthroughRoundRobin extends InPlaceCircuit
 {
 	private int _currentOutput;
 	private boolean _lastClockState;
@@ -21,7 +21,7 @@ public class PassthroughRoundRobin implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(inputValues[2] > 0 && !_lastClockState)
 		{
@@ -34,9 +34,11 @@ public class PassthroughRoundRobin implements IRedNetLogicCircuit
 		
 		_lastClockState = inputValues[2] > 0;
 		
-		int[] outputs = new int[16];
-		outputs[_currentOutput] = inputValues[0];
-		return outputs;
+		for(int i = 0; i < 16; i++)
+		{
+			outputValues[i] = 0;
+		}
+		outputValues[_currentOutput] = inputValues[0];
 	}
 	
 	@Override
@@ -17,30 +17,28 @@ public class DecomposeIntToDecimal extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		int[] returnArray = new int[11];
 		//add a sign bit to the first 
 		if(inputValues[0] >= 0)
 		{
-			returnArray[0] = 0;
+			outputValues[0] = 0;
 		}
 		else
 		{
-			returnArray[0] = 15;
+			outputValues[0] = 15;
 		}
 		char[] decimalChars = Integer.toString(Math.abs(inputValues[0])).toCharArray();
 		// put the decimal digits in the return array, little endian.
 		for(int i = decimalChars.length - 1 ; i >= 0 ; i--)
 		{
-			returnArray[decimalChars.length - i] = Character.digit(decimalChars[i], 10);
+			outputValues[decimalChars.length - i] = Character.digit(decimalChars[i], 10);
 		}
 		// fill the remainder of the array with zeroes.
-		for(int i = decimalChars.length + 1 ; i < returnArray.length ; i++)
+		for(int i = decimalChars.length + 1 ; i < outputValues.length ; i++)
 		{
-			returnArray[i] = 0;
+			outputValues[i] = 0;
 		}
-		return returnArray;
 	}
 	
 	@Override
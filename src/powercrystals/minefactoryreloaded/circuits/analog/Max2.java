@@ -17,9 +17,9 @@ public class Max2 extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		return new int[] { Math.max(inputValues[0], inputValues[1]) };
+		outputValues[0] = Math.max(inputValues[0], inputValues[1]);
 	}
 	
 	@Override
@@ -17,9 +17,9 @@ public class Max3 extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		return new int[] { Math.max(Math.max(inputValues[0], inputValues[1]), inputValues[2]) };
+		outputValues[0] = Math.max(Math.max(inputValues[0], inputValues[1]), inputValues[2]);
 	}
 	
 	@Override
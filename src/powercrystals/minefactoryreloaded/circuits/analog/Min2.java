@@ -17,9 +17,9 @@ public class Min2 extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		return new int[] { Math.min(inputValues[0], inputValues[1]) };
+		outputValues[0] = Math.min(inputValues[0], inputValues[1]);
 	}
 	
 	@Override
@@ -17,9 +17,9 @@ public class Min4 extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		return new int[] { Math.min(Math.min(Math.min(inputValues[0], inputValues[1]), inputValues[2]), inputValues[3]) };
+		outputValues[0] = Math.min(Math.min(Math.min(inputValues[0], inputValues[1]), inputValues[2]), inputValues[3]);
 	}
 	
 	@Override
@@ -21,7 +21,7 @@ public class RandomizerAnalog extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(_rand == null)
 		{
@@ -30,14 +30,20 @@ public class RandomizerAnalog extends StatelessCircuit
 		
 		if(inputValues[1] - inputValues[0] <= 0)
 		{
-			return new int[] { inputValues[0] };
+			outputValues[0] = inputValues[0];
 		}
 		else
 		{
-			return new int[] { _rand.nextInt(inputValues[1] - inputValues[0]) + inputValues[0] };
+			outputValues[0] = _rand.nextInt(inputValues[1] - inputValues[0]) + inputValues[0];
 		}
 	}
 	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
+	}
+	
 	@Override
 	public String getUnlocalizedName()
 	{
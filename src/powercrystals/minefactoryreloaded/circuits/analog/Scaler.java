@@ -19,15 +19,15 @@ public class Scaler extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(inputValues[4] - inputValues[3] == 0 || inputValues[2] - inputValues[1] == 0)
 		{
-			return new int [] { inputValues[0] };
+			outputValues[0] = inputValues[0];
 		}
 		else
 		{
-			return new int[] { (inputValues[0] - inputValues[1]) * (inputValues[4] - inputValues[3]) / (inputValues[2] - inputValues[1]) + inputValues[3] };
+			outputValues[0] = (inputValues[0] - inputValues[1]) * (inputValues[4] - inputValues[3]) / (inputValues[2] - inputValues[1]) + inputValues[3];
 		}
 	}
 	
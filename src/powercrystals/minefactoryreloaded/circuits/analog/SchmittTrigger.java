@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.analog;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class SchmittTrigger implements IRedNetLogicCircuit
+public class SchmittTrigger extends InPlaceCircuit
 {
 	private int _activeTicks = 0;
 	
@@ -20,7 +20,7 @@ public class SchmittTrigger implements IRedNetLogicCircuit
 	}
 
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(inputValues[0] != 0)
 		{
@@ -31,14 +31,13 @@ public class SchmittTrigger implements IRedNetLogicCircuit
 			_activeTicks = 0;
 		}
 		
-		if(_activeTicks > inputValues[1])
-		{
-			return new int[] { inputValues[0] };
-		}
-		else
-		{
-			return new int[] { 0 };
-		}
+		outputValues[0] = _activeTicks > inputValues[1] ? inputValues[0] : 0;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 
 	@Override
@@ -0,0 +1,25 @@
+package powercrystals.minefactoryreloaded.circuits.base;
+
+import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuitInPlace;
+
+/**
+ * Base for circuits that write their outputs into a buffer owned by the controller. Circuits that keep
+ * state between evaluations extend this directly and save it themselves; see {@link StatelessCircuit}
+ * for those that don't.
+ */
+public abstract class InPlaceCircuit implements IRedNetLogicCircuitInPlace
+{
+	@Override
+	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	{
+		int[] outputValues = new int[getOutputCount()];
+		recalculateOutputValues(worldTime, inputValues, outputValues);
+		return outputValues;
+	}
+
+	@Override
+	public boolean isTimeDependent()
+	{
+		return false;
+	}
+}
@@ -1,9 +1,11 @@
 package powercrystals.minefactoryreloaded.circuits.base;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
 
-public abstract class StatelessCircuit implements IRedNetLogicCircuit
+/**
+ * Base for circuits whose outputs depend only on their inputs and the world time.
+ */
+public abstract class StatelessCircuit extends InPlaceCircuit
 {
 	@Override
 	public void readFromNBT(NBTTagCompound tag)
@@ -17,11 +17,12 @@ public class AdderDigitalFull extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		int s = ((inputValues[0] > 0 ^ inputValues[1] > 0) ^ inputValues[2] > 0) ? 15 : 0;
 		int c = ((inputValues[0] > 0 && inputValues[1] > 0) || ((inputValues[0] > 0 ^ inputValues[1] > 0) && inputValues[2] > 0)) ? 15 : 0;
-		return new int[] { s, c };
+		outputValues[0] = s;
+		outputValues[1] = c;
 	}
 	
 	@Override
@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.digital;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class Counter implements IRedNetLogicCircuit
+public class Counter extends InPlaceCircuit
 {
 	private int _count;
 	
@@ -23,12 +23,14 @@ public class Counter implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		int _preset = inputValues[2];
 		if (_preset <= 0)
 		{
-			return new int[] {0, _count};
+			outputValues[0] = 0;
+			outputValues[1] = _count;
+			return;
 		}
 		
 		_count = inputValues[3] > 0 ? 0 : inputValues[3] < 0 ? _preset - 1 : _count;
@@ -46,17 +48,19 @@ public class Counter implements IRedNetLogicCircuit
 		_lastDecrementState = inputValues[1] > 0;
 		
 		
+		int carry = 0;
 		if(_count >= _preset)
 		{
 			_count = 0;
-			return new int[] { 15, _count };
+			carry = 15;
 		}
 		else if(_count < 0)
 		{
 			_count = _preset - 1;
-			return new int[] { 15, _count };
+			carry = 15;
 		}
-		return new int[] { 0, _count };
+		outputValues[0] = carry;
+		outputValues[1] = _count;
 	}
 	
 	@Override
@@ -17,14 +17,15 @@ public class DeMux16Analog extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		int channel = Math.max(Math.min(inputValues[1], 15), 0);
 		
-		int[] output = new int[16];
-		output[channel] = inputValues[0];
-		
-		return output;
+		for(int i = 0; i < 16; i++)
+		{
+			outputValues[i] = 0;
+		}
+		outputValues[channel] = inputValues[0];
 	}
 	
 	@Override
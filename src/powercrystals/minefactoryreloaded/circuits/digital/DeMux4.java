@@ -17,16 +17,17 @@ public class DeMux4 extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		int channel = 0;
 		if(inputValues[1] > 0 && inputValues[2] == 0) channel = 1;
 		else if(inputValues[1] == 0 && inputValues[2] > 0) channel = 2;
 		else if(inputValues[1] > 0 && inputValues[2] > 0) channel = 3;
-		int[] output = new int[4];
-		output[channel] = inputValues[0];
-		
-		return output;
+		for(int i = 0; i < 4; i++)
+		{
+			outputValues[i] = 0;
+		}
+		outputValues[channel] = inputValues[0];
 	}
 	
 	@Override
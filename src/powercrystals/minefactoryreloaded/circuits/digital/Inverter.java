@@ -17,16 +17,9 @@ public class Inverter extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		if(inputValues[0] > 0)
-		{
-			return new int[] { 0 };
-		}
-		else
-		{
-			return new int[] { 15 };
-		}
+		outputValues[0] = inputValues[0] > 0 ? 0 : 15;
 	}
 	
 	@Override
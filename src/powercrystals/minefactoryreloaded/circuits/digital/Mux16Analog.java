@@ -17,11 +17,11 @@ public class Mux16Analog extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		int channel = Math.max(Math.min(inputValues[15], 14), 0);
 		
-		return new int[] { inputValues[channel] };
+		outputValues[0] = inputValues[channel];
 	}
 	
 	@Override
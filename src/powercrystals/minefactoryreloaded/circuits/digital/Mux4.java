@@ -19,7 +19,7 @@ public class Mux4 extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		int channel = 0;
 		
@@ -27,7 +27,7 @@ public class Mux4 extends StatelessCircuit
 		else if(inputValues[4] == 0 && inputValues[5] > 0) channel = 2;
 		else if(inputValues[4] > 0 && inputValues[5] > 0) channel = 3;
 		
-		return new int[] { inputValues[channel] };
+		outputValues[0] = inputValues[channel];
 	}
 	
 	@Override
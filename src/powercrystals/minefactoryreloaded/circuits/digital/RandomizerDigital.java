@@ -21,20 +21,19 @@ public class RandomizerDigital extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(_rand == null)
 		{
 			_rand = new Random(worldTime);
 		}
-		if(_rand.nextBoolean())
-		{
-			return new int[] { 15 };
-		}
-		else
-		{
-			return new int[] { 0 };
-		}
+		outputValues[0] = _rand.nextBoolean() ? 15 : 0;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
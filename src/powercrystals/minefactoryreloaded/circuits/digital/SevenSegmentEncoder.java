@@ -40,23 +40,22 @@ public class SevenSegmentEncoder extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(inputValues[0] < 0 || inputValues[0] > 15)
 		{
-			return new int[] { 0, 0, 0, 0, 0, 0, 0 };
+			for(int i = 0; i < 7; i++)
+			{
+				outputValues[i] = 0;
+			}
+			return;
 		}
 		
-		return new int[]
-				{
-				_outputMatrix[inputValues[0]][0],
-				_outputMatrix[inputValues[0]][1],
-				_outputMatrix[inputValues[0]][2],
-				_outputMatrix[inputValues[0]][3],
-				_outputMatrix[inputValues[0]][4],
-				_outputMatrix[inputValues[0]][5],
-				_outputMatrix[inputValues[0]][6],
-				};
+		int[] segments = _outputMatrix[inputValues[0]];
+		for(int i = 0; i < 7; i++)
+		{
+			outputValues[i] = segments[i];
+		}
 	}
 	
 	@Override
@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.latch;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class FlipFlopJK implements IRedNetLogicCircuit
+public class FlipFlopJK extends InPlaceCircuit
 {
 	private boolean _value;
 	private boolean _lastClockState;
@@ -21,7 +21,7 @@ public class FlipFlopJK implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(inputValues[2] > 0 && !_lastClockState)
 		{
@@ -41,14 +41,8 @@ public class FlipFlopJK implements IRedNetLogicCircuit
 		
 		_lastClockState = inputValues[2] > 0;
 		
-		if(_value)
-		{
-			return new int[] { 15, 0 };
-		}
-		else
-		{
-			return new int[] { 0, 15 };
-		}
+		outputValues[0] = _value ? 15 : 0;
+		outputValues[1] = _value ? 0 : 15;
 	}
 	
 	@Override
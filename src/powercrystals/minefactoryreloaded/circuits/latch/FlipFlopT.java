@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.latch;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class FlipFlopT implements IRedNetLogicCircuit
+public class FlipFlopT extends InPlaceCircuit
 {
 	private boolean _value;
 	private boolean _lastClockState;
@@ -21,7 +21,7 @@ public class FlipFlopT implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(inputValues[1] > 0 && !_lastClockState)
 		{
@@ -33,14 +33,8 @@ public class FlipFlopT implements IRedNetLogicCircuit
 		
 		_lastClockState = inputValues[1] > 0;
 		
-		if(_value)
-		{
-			return new int[] { 15, 0 };
-		}
-		else
-		{
-			return new int[] { 0, 15 };
-		}
+		outputValues[0] = _value ? 15 : 0;
+		outputValues[1] = _value ? 0 : 15;
 	}
 	
 	@Override
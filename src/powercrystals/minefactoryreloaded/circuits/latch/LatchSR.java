@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.latch;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class LatchSR implements IRedNetLogicCircuit
+public class LatchSR extends InPlaceCircuit
 {
 	private boolean _value;
 	
@@ -20,7 +20,7 @@ public class LatchSR implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		if(inputValues[0] > 0 && inputValues[1] == 0)
 		{
@@ -31,14 +31,8 @@ public class LatchSR implements IRedNetLogicCircuit
 			_value = true;
 		}
 		
-		if(_value)
-		{
-			return new int[] { 15, 0 };
-		}
-		else
-		{
-			return new int[] { 0, 15 };
-		}
+		outputValues[0] = _value ? 15 : 0;
+		outputValues[1] = _value ? 0 : 15;
 	}
 	
 	@Override
@@ -17,13 +17,9 @@ public class Nand2 extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		if(!(inputValues[0] > 0 && inputValues[1] > 0))
-		{
-			return new int[] { 15 };
-		}
-		return new int[] { 0 };
+		outputValues[0] = !(inputValues[0] > 0 && inputValues[1] > 0) ? 15 : 0;
 	}
 	
 	@Override
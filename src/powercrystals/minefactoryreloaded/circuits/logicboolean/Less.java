@@ -17,9 +17,9 @@ public class Less extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		return new int[] { inputValues[0] < inputValues[1] ? 15 : 0 };
+		outputValues[0] = inputValues[0] < inputValues[1] ? 15 : 0;
 	}
 	
 	@Override
@@ -3,9 +3,9 @@ package powercrystals.minefactoryreloaded.circuits.timing;
 import java.util.ArrayList;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.circuits.base.StatelessCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class Delay extends StatelessCircuit
+public class Delay extends InPlaceCircuit
 {
 	private int delayTime;
 	private ArrayList<Integer> history = new ArrayList<Integer>();
@@ -23,7 +23,7 @@ public class Delay extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		
 		int output = 0;
@@ -47,7 +47,13 @@ public class Delay extends StatelessCircuit
 			}
 		}
 		
-		return new int[] { output };
+		outputValues[0] = output;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
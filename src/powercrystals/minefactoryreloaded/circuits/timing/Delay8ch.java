@@ -6,9 +6,9 @@ import java.util.List;
 import java.util.Map;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.circuits.base.StatelessCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class Delay8ch extends StatelessCircuit
+public class Delay8ch extends InPlaceCircuit
 {
 	private int delayTime;
 	private Map<Integer, List<Integer>> history = new HashMap<Integer, List<Integer>>();
@@ -34,11 +34,9 @@ public class Delay8ch extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		
-		int[] output = new int[8];
-		
 		this.delayTime = inputValues[8];
 		
 		if(delayTime < 0)
@@ -49,11 +47,12 @@ public class Delay8ch extends StatelessCircuit
 
 		for(int p = 0; p < 8; p++)
 		{
+			outputValues[p] = 0;
 			this.history.get(p).add(0, inputValues[p]);
 			
 			if(this.history.get(p).size() > delayTime)
 			{
-				output[p] = this.history.get(p).get(this.delayTime);
+				outputValues[p] = this.history.get(p).get(this.delayTime);
 				
 				for(int i = this.delayTime; i < this.history.size(); i++)
 				{
@@ -61,8 +60,12 @@ public class Delay8ch extends StatelessCircuit
 				}
 			}
 		}
-		
-		return output;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.timing;
 
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 import net.minecraft.nbt.NBTTagCompound;
 
-public class Multipulse implements IRedNetLogicCircuit
+public class Multipulse extends InPlaceCircuit
 {
 	private static final String[] _inputPinNames = new String[] { "I", "CLK", "CNT", "THi", "TLo" };
 	
@@ -25,7 +25,7 @@ public class Multipulse implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		boolean isDone = false;
 		int output = 0;
@@ -72,7 +72,14 @@ public class Multipulse implements IRedNetLogicCircuit
 		}
 		
 		_lastClockState = (inputValues[1] > 0);
-		return new int[] { output, isDone ? 15 : 0 };
+		outputValues[0] = output;
+		outputValues[1] = isDone ? 15 : 0;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
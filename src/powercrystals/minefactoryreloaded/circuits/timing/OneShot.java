@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.timing;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class OneShot implements IRedNetLogicCircuit
+public class OneShot extends InPlaceCircuit
 {
 	private boolean _lastState;
 	
@@ -20,7 +20,7 @@ public class OneShot implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		int output;
 		if(inputValues[0] > 0 && !_lastState)
@@ -32,7 +32,13 @@ public class OneShot implements IRedNetLogicCircuit
 			output = 0;
 		}
 		_lastState = inputValues[0] > 0;
-		return new int[] { output };
+		outputValues[0] = output;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.timing;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class PulseLengthener implements IRedNetLogicCircuit
+public class PulseLengthener extends InPlaceCircuit
 {
 	private int _pulseLength;
 	private int _pulseCountdown;
@@ -21,7 +21,7 @@ public class PulseLengthener implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		_pulseLength = inputValues[1];
 		int output;
@@ -40,7 +40,13 @@ public class PulseLengthener implements IRedNetLogicCircuit
 		{
 			output = 0;
 		}
-		return new int[] { output };
+		outputValues[0] = output;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
@@ -17,9 +17,15 @@ public class SawtoothFalling extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		return new int[] { 15 - (int)(worldTime % 16) };
+		outputValues[0] = 15 - (int)(worldTime % 16);
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
@@ -17,10 +17,15 @@ public class Sine extends StatelessCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
-		int value = (int)(7.5 * (Math.sin(Math.PI / 8.0 * (worldTime % 16)) + 1));
-		return new int[] { value };
+		outputValues[0] = (int)(7.5 * (Math.sin(Math.PI / 8.0 * (worldTime % 16)) + 1));
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
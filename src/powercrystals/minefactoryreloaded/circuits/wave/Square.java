@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.wave;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class Square implements IRedNetLogicCircuit
+public class Square extends InPlaceCircuit
 {
 	private boolean _value;
 	private int _period;
@@ -21,7 +21,7 @@ public class Square implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		_period = inputValues[0];
 		if(_period == 0)
@@ -33,7 +33,13 @@ public class Square implements IRedNetLogicCircuit
 		{
 			_value = !_value;
 		}
-		return new int[] { _value ? 15 : 0 };
+		outputValues[0] = _value ? 15 : 0;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
@@ -1,9 +1,9 @@
 package powercrystals.minefactoryreloaded.circuits.wave;
 
 import net.minecraft.nbt.NBTTagCompound;
-import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.circuits.base.InPlaceCircuit;
 
-public class Triangle implements IRedNetLogicCircuit
+public class Triangle extends InPlaceCircuit
 {
 	private boolean _invert = false;
 	
@@ -20,7 +20,7 @@ public class Triangle implements IRedNetLogicCircuit
 	}
 	
 	@Override
-	public int[] recalculateOutputValues(long worldTime, int[] inputValues)
+	public void recalculateOutputValues(long worldTime, int[] inputValues, int[] outputValues)
 	{
 		int value = (int)(worldTime % 16);
 		
@@ -28,7 +28,13 @@ public class Triangle implements IRedNetLogicCircuit
 		{
 			_invert = !_invert;
 		}
-		return new int[] { _invert ? 15 - value : value };
+		outputValues[0] = _invert ? 15 - value : value;
+	}
+	
+	@Override
+	public boolean isTimeDependent()
+	{
+		return true;
 	}
 	
 	@Override
@@ -1,24 +1,24 @@
 package powercrystals.minefactoryreloaded.core;
 
+import gnu.trove.map.hash.TLongObjectHashMap;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
-import java.util.Set;
 
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.enchantment.EnchantmentData;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.init.Items;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
-import net.minecraft.util.WeightedRandom;
 
 public class AutoEnchantmentHelper extends EnchantmentHelper
 {
@@ -116,50 +116,140 @@ public class AutoEnchantmentHelper extends EnchantmentHelper
 				targetEnchantability = 1;
 			}
 
-			List<EnchantmentData> enchantmentList = null;
-			Map<Integer, EnchantmentData> enchantmentMap = mapEnchantmentData((blockInvalid ?
-					targetEnchantability : Math.min(40, targetEnchantability)), stack);
+			CandidateTable table = getCandidateTable(stack, blockInvalid ?
+					targetEnchantability : Math.min(40, targetEnchantability));
+			if(table == null)
+			{
+				return null;
+			}
 
-			if(enchantmentMap != null && !enchantmentMap.isEmpty())
+			long[] available = table.newMask();
+			int pick = table.pick(rand, available);
+			if(pick < 0)
 			{
-				Collection<EnchantmentData> map = enchantmentMap.values();
-				EnchantmentData enchData = (EnchantmentData)WeightedRandom.getRandomItem(rand, map);
+				return null;
+			}
 
-				if(enchData != null)
-				{
-					enchantmentList = new ArrayList<EnchantmentData>();
-					enchantmentList.add(enchData);
-					Set<Integer> mapSet = enchantmentMap.keySet();
+			List<EnchantmentData> enchantmentList = new ArrayList<EnchantmentData>();
+			enchantmentList.add(table.data[pick]);
 
-					for(int i = targetEnchantability; rand.nextInt(50) <= i; i >>= 1)
-					{
-						if (blockInvalid) for (Iterator<Integer> iter = mapSet.iterator(); iter.hasNext();)
-						{
-							Enchantment ench = Enchantment.enchantmentsList[iter.next()];
-							for(EnchantmentData newEnchantment : enchantmentList)
-								if (!newEnchantment.enchantmentobj.canApplyTogether(ench))
-								{
-									iter.remove();
-									break;
-								} // TODO: this inner loop probably isn't needed
-						}
+			for(int i = targetEnchantability; rand.nextInt(50) <= i; i >>= 1)
+			{
+				if (blockInvalid)
+				{
+					table.removeConflicts(available, pick);
+				}
 
-						if(!enchantmentMap.isEmpty())
-						{
-							EnchantmentData randomEnchant = (EnchantmentData)WeightedRandom.
-									getRandomItem(rand, map);
-							enchantmentList.add(randomEnchant);
-						}
-						else
-							break;
-					}
+				pick = table.pick(rand, available);
+				if(pick < 0)
+				{
+					break;
 				}
+				enchantmentList.add(table.data[pick]);
 			}
 
 			return enchantmentList;
 		}
 	}
 
+	private static Map<Item, TLongObjectHashMap<CandidateTable>> candidateTables =
+			new HashMap<Item, TLongObjectHashMap<CandidateTable>>();
+
+	/**
+	 * Candidate tables are built once per item, damage and target enchantability. Stacks with NBT may have
+	 * candidates that depend on it, so theirs are built every time instead.
+	 */
+	private static CandidateTable getCandidateTable(ItemStack stack, int targetEnchantability)
+	{
+		if (stack.hasTagCompound())
+			return newCandidateTable(stack, targetEnchantability);
+
+		Item item = stack.getItem();
+		TLongObjectHashMap<CandidateTable> tables = candidateTables.get(item);
+		if (tables == null)
+		{
+			tables = new TLongObjectHashMap<CandidateTable>();
+			candidateTables.put(item, tables);
+		}
+		long key = ((long)stack.getItemDamage() << 32) | (targetEnchantability & 0xFFFFFFFFL);
+		CandidateTable table = tables.get(key);
+		if (table == null && !tables.containsKey(key))
+		{
+			table = newCandidateTable(stack, targetEnchantability);
+			tables.put(key, table);
+		}
+		return table;
+	}
+
+	private static CandidateTable newCandidateTable(ItemStack stack, int targetEnchantability)
+	{
+		Map<Integer, EnchantmentData> enchantmentMap = mapEnchantmentData(targetEnchantability, stack);
+		if (enchantmentMap == null || enchantmentMap.isEmpty())
+			return null;
+		return new CandidateTable(enchantmentMap.values());
+	}
+
+	/**
+	 * Every enchantment (at its highest level) available for one item and enchantability, with its weight and a
+	 * bitmask of the other candidates it cannot be applied together with. Sets of remaining candidates are
+	 * bitmasks over the same indices.
+	 */
+	private static final class CandidateTable
+	{
+		final EnchantmentData[] data;
+		final int[] weight;
+		final long[][] conflicts;
+		final int words;
+
+		CandidateTable(Collection<EnchantmentData> candidates)
+		{
+			int n = candidates.size();
+			data = candidates.toArray(new EnchantmentData[n]);
+			weight = new int[n];
+			words = (n + 63) >>> 6;
+			conflicts = new long[n][words];
+			for (int i = 0; i < n; ++i)
+			{
+				weight[i] = data[i].itemWeight;
+				Enchantment ench = data[i].enchantmentobj;
+				for (int j = 0; j < n; ++j)
+					if (!ench.canApplyTogether(data[j].enchantmentobj))
+						conflicts[i][j >>> 6] |= 1L << j;
+			}
+		}
+
+		long[] newMask()
+		{
+			long[] mask = new long[words];
+			int n = data.length;
+			for (int i = 0; i < words; ++i)
+				mask[i] = n - (i << 6) >= 64 ? -1L : (1L << (n - (i << 6))) - 1;
+			return mask;
+		}
+
+		void removeConflicts(long[] mask, int index)
+		{
+			long[] c = conflicts[index];
+			for (int i = 0; i < words; ++i)
+				mask[i] &= ~c[i];
+		}
+
+		int pick(Random rand, long[] mask)
+		{
+			int total = 0;
+			for (int i = 0, e = data.length; i < e; ++i)
+				if ((mask[i >>> 6] & (1L << i)) != 0)
+					total += weight[i];
+			if (total <= 0)
+				return -1;
+			int r = rand.nextInt(total);
+			for (int i = 0, e = data.length; i < e; ++i)
+				if ((mask[i >>> 6] & (1L << i)) != 0 && (r -= weight[i]) < 0)
+					return i;
+			return -1;
+		}
+	}
+
 	public static Map<Integer, EnchantmentData> mapEnchantmentData(int targetEnchantability, ItemStack stack)
 	{
 		HashMap<Integer, EnchantmentData> enchantmentMap = null;
@@ -0,0 +1,38 @@
+package powercrystals.minefactoryreloaded.core;
+
+import powercrystals.minefactoryreloaded.api.IFactoryGrindable;
+import powercrystals.minefactoryreloaded.api.IFactoryRanchable;
+import powercrystals.minefactoryreloaded.api.IMobSpawnHandler;
+
+/**
+ * Everything the registry knows about one concrete entity class, resolved once against the class hierarchy.
+ * <p>
+ * Instances are built and cached by <tt>MFRRegistry.getEntityClassInfo</tt> and discarded whenever a
+ * handler or blacklist entry is registered.
+ */
+public final class EntityClassInfo
+{
+	public final IFactoryGrindable grindable;
+	public final IFactoryRanchable ranchable;
+	public final IMobSpawnHandler spawnHandler;
+
+	public final boolean grinderBlacklisted;
+	public final boolean slaughterhouseBlacklisted;
+	public final boolean safariNetBlacklisted;
+	public final boolean conveyerBlacklisted;
+	public final boolean autoSpawnerBlacklisted;
+
+	public EntityClassInfo(IFactoryGrindable grindable, IFactoryRanchable ranchable, IMobSpawnHandler spawnHandler,
+			boolean grinderBlacklisted, boolean slaughterhouseBlacklisted, boolean safariNetBlacklisted,
+			boolean conveyerBlacklisted, boolean autoSpawnerBlacklisted)
+	{
+		this.grindable = grindable;
+		this.ranchable = ranchable;
+		this.spawnHandler = spawnHandler;
+		this.grinderBlacklisted = grinderBlacklisted;
+		this.slaughterhouseBlacklisted = slaughterhouseBlacklisted;
+		this.safariNetBlacklisted = safariNetBlacklisted;
+		this.conveyerBlacklisted = conveyerBlacklisted;
+		this.autoSpawnerBlacklisted = autoSpawnerBlacklisted;
+	}
+}
@@ -0,0 +1,135 @@
+package powercrystals.minefactoryreloaded.core;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.IFluidTank;
+
+/**
+ * An interned, pre-resolved reference to a fluid by name, for code that fills or compares against the same
+ * fluid every tick.
+ * <p>
+ * Handles look the fluid up once, after registration is complete, and again whenever fluid ids may have been
+ * remapped (see {@link #resolveAll}). Filling reuses one scratch stack per handle, so it must only be done
+ * from the server thread, and only into tanks that copy what they are given (as all <tt>FluidTank</tt>s do).
+ */
+public final class FluidHandle
+{
+	private static final Map<String, FluidHandle> handles = new HashMap<String, FluidHandle>();
+
+	public static final FluidHandle water = get("water");
+	public static final FluidHandle lava = get("lava");
+	public static final FluidHandle milk = get("milk");
+	public static final FluidHandle sludge = get("sludge");
+	public static final FluidHandle sewage = get("sewage");
+	public static final FluidHandle mobEssence = get("mobessence");
+	public static final FluidHandle biofuel = get("biofuel");
+	public static final FluidHandle meat = get("meat");
+	public static final FluidHandle pinkSlime = get("pinkslime");
+	public static final FluidHandle mushroomSoup = get("mushroomsoup");
+	public static final FluidHandle steam = get("steam");
+	public static final FluidHandle bioethanol = get("bioethanol");
+
+	public static synchronized FluidHandle get(String name)
+	{
+		name = name.toLowerCase(Locale.ENGLISH);
+		FluidHandle handle = handles.get(name);
+		if (handle == null)
+		{
+			handle = new FluidHandle(name);
+			handles.put(name, handle);
+		}
+		return handle;
+	}
+
+	/**
+	 * Re-resolves every handle. Called once all mods have registered their fluids, and again on id remaps.
+	 */
+	public static synchronized void resolveAll()
+	{
+		for (FluidHandle handle : handles.values())
+			handle.resolve();
+	}
+
+	private final String _name;
+	private Fluid _fluid;
+	private int _id = -1;
+	private FluidStack _scratch;
+
+	private FluidHandle(String name)
+	{
+		_name = name;
+	}
+
+	private void resolve()
+	{
+		_fluid = FluidRegistry.getFluid(_name);
+		if (_fluid == null)
+		{
+			_id = -1;
+			_scratch = null;
+			return;
+		}
+		_id = _fluid.getID();
+		_scratch = new FluidStack(_fluid, 0);
+	}
+
+	private boolean check()
+	{
+		if (_scratch == null)
+			resolve();
+		return _scratch != null;
+	}
+
+	public String getName()
+	{
+		return _name;
+	}
+
+	public Fluid getFluid()
+	{
+		check();
+		return _fluid;
+	}
+
+	public int getID()
+	{
+		check();
+		return _id;
+	}
+
+	/**
+	 * @return A new stack of this fluid that the caller may keep, or null if the fluid does not exist.
+	 */
+	public FluidStack newStack(int amount)
+	{
+		if (!check())
+			return null;
+		return new FluidStack(_fluid, amount);
+	}
+
+	public boolean isFluidEqual(FluidStack stack)
+	{
+		return stack != null && check() && stack.fluidID == _id;
+	}
+
+	/**
+	 * Fills <tt>tank</tt> with <tt>amount</tt> of this fluid without allocating.
+	 *
+	 * @return The amount accepted by the tank.
+	 */
+	public int fill(IFluidTank tank, int amount, boolean doFill)
+	{
+		if (amount <= 0 || !check())
+			return 0;
+		FluidStack stack = _scratch;
+		stack.amount = amount;
+		int r = tank.fill(stack, doFill);
+		stack.amount = 0;
+		return r;
+	}
+}
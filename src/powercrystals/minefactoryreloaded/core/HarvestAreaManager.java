@@ -8,12 +8,13 @@ import cofh.lib.util.position.IRotateableTile;
 import java.util.List;
 
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.Packet;
-import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.common.util.ForgeDirection;
 
+import powercrystals.minefactoryreloaded.net.AreaSyncMessage;
+import powercrystals.minefactoryreloaded.tile.base.TileEntityFactory;
+
 public class HarvestAreaManager <T extends TileEntity & IRotateableTile>
 {
 	private T _owner;
@@ -164,9 +165,9 @@ public class HarvestAreaManager <T extends TileEntity & IRotateableTile>
 
 	public Packet getUpgradePacket()
 	{
-		NBTTagCompound data = new NBTTagCompound();
-		data.setInteger("_upgradeLevel", _upgradeLevel);
-		return new S35PacketUpdateTileEntity(_owner.xCoord, _owner.yCoord, _owner.zCoord, 255, data);
+		if (!(_owner instanceof TileEntityFactory))
+			return null;
+		return new AreaSyncMessage((TileEntityFactory)_owner).toPacket();
 	}
 
 	public void updateUpgradeLevel(ItemStack stack)
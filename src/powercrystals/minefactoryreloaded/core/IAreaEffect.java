@@ -0,0 +1,36 @@
+package powercrystals.minefactoryreloaded.core;
+
+import java.util.List;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.AxisAlignedBB;
+
+/**
+ * Something that periodically acts on every living entity in a volume, run by <tt>AreaEffectScheduler</tt>.
+ */
+public interface IAreaEffect
+{
+	public boolean isNotValid();
+
+	/**
+	 * Checked each time the effect comes due, before any entity search. Return false to skip this application
+	 * without paying for the search, e.g. while the machine is idle.
+	 */
+	public boolean isEffectActive();
+
+	/**
+	 * @return The number of ticks between applications. Only read when registering.
+	 */
+	public int getEffectInterval();
+
+	/**
+	 * @return The volume to act on. It should stay within a few chunks of where it was when registered.
+	 */
+	public AxisAlignedBB getEffectArea();
+
+	/**
+	 * @param entities The living entities whose bounding boxes intersect the effect area. The list is reused
+	 *            and must not be kept.
+	 */
+	public void applyEffect(List<EntityLivingBase> entities);
+}
@@ -0,0 +1,11 @@
+package powercrystals.minefactoryreloaded.core;
+
+public interface IBlockChangeWatcher
+{
+	public boolean isNotValid();
+	/**
+	 * Called by {@link powercrystals.minefactoryreloaded.net.BlockChangeTracker} after a block or its metadata
+	 * changes inside a watched area.
+	 */
+	public void onBlockChanged(int x, int y, int z);
+}
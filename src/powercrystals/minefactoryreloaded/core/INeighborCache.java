@@ -0,0 +1,15 @@
+package powercrystals.minefactoryreloaded.core;
+
+import net.minecraft.tileentity.TileEntity;
+
+public interface INeighborCache
+{
+	public boolean isNotValid();
+	/**
+	 * Called by {@link powercrystals.minefactoryreloaded.net.NeighborCacheResolver} once the neighbor on a side is known.
+	 * 
+	 * @param tile The neighboring tile entity, or null if there is none.
+	 * @param side The direction (0-5) from this tile to the neighbor.
+	 */
+	public void onNeighborResolved(TileEntity tile, int side);
+}
@@ -0,0 +1,10 @@
+package powercrystals.minefactoryreloaded.core;
+
+public interface IWakeable
+{
+	public boolean isNotValid();
+	/**
+	 * @return True to be ticked again next tick, false to go back to sleep until woken again.
+	 */
+	public boolean wakeTick();
+}
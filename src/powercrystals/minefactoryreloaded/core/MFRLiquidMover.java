@@ -11,7 +11,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidContainerRegistry;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.IFluidContainerItem;
@@ -194,7 +193,7 @@ public abstract class MFRLiquidMover
 		if (found > 0)
 		{
 			found = (int)(found * 66.66666667f);
-			tank.fill(FluidRegistry.getFluidStack("mobessence", found), true);
+			FluidHandle.mobEssence.fill(tank, found, true);
 			return found;
 		}
 		return 0;
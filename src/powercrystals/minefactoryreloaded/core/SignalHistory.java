@@ -0,0 +1,222 @@
+package powercrystals.minefactoryreloaded.core;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Primitive history of a piecewise-constant integer signal, kept at several resolutions at once.
+ * <p>
+ * Each tier is a ring of min/max/average buckets covering a fixed number of ticks; the signal only has to
+ * be reported when it changes, and any number of idle ticks is folded in with a bounded amount of work.
+ */
+public class SignalHistory
+{
+	public static final int[] TIER_TICKS = { 1, 20, 20 * 60, 20 * 60 * 60 };
+	public static final int TIERS = TIER_TICKS.length;
+
+	private final int _capacity;
+
+	// closed buckets, per tier, as rings
+	private final int[][] _min, _max, _avg;
+	private final int[] _head = new int[TIERS], _count = new int[TIERS];
+
+	// the bucket currently being filled, per tier
+	private final int[] _openTicks = new int[TIERS], _openMin = new int[TIERS], _openMax = new int[TIERS];
+	private final long[] _openSum = new long[TIERS];
+
+	private long _time;
+	private int _value;
+
+	public SignalHistory(int capacity)
+	{
+		_capacity = capacity;
+		_min = new int[TIERS][capacity];
+		_max = new int[TIERS][capacity];
+		_avg = new int[TIERS][capacity];
+	}
+
+	public int getCapacity()
+	{
+		return _capacity;
+	}
+
+	public int getValue()
+	{
+		return _value;
+	}
+
+	public long getTime()
+	{
+		return _time;
+	}
+
+	public void reset(long worldTime, int value)
+	{
+		for (int t = 0; t < TIERS; ++t)
+		{
+			_head[t] = _count[t] = 0;
+			_openTicks[t] = 0;
+			_openSum[t] = 0;
+		}
+		_time = worldTime;
+		_value = value;
+	}
+
+	/**
+	 * Records that the signal changed to <tt>value</tt> at <tt>worldTime</tt>.
+	 */
+	public void record(long worldTime, int value)
+	{
+		advance(worldTime);
+		_value = value;
+	}
+
+	/**
+	 * Extends the history up to <tt>worldTime</tt> with the current value.
+	 */
+	public void advance(long worldTime)
+	{
+		long ticks = worldTime - _time;
+		if (ticks <= 0)
+			return;
+		_time = worldTime;
+		for (int t = 0; t < TIERS; ++t)
+			fill(t, ticks);
+	}
+
+	private void fill(int tier, long ticks)
+	{
+		final int span = TIER_TICKS[tier], value = _value;
+		int open = _openTicks[tier];
+		if (open + ticks >= span)
+		{
+			int n = span - open;
+			accumulate(tier, n);
+			close(tier);
+			ticks -= n;
+
+			// buckets older than the ring would be overwritten again anyway
+			long full = Math.min(ticks / span, _capacity);
+			for (; full > 0; --full)
+			{
+				int i = _head[tier];
+				_min[tier][i] = _max[tier][i] = _avg[tier][i] = value;
+				push(tier);
+			}
+			ticks %= span;
+		}
+		accumulate(tier, (int)ticks);
+	}
+
+	private void accumulate(int tier, int ticks)
+	{
+		if (ticks <= 0)
+			return;
+		final int value = _value;
+		if (_openTicks[tier] == 0)
+		{
+			_openMin[tier] = _openMax[tier] = value;
+		}
+		else
+		{
+			if (value < _openMin[tier]) _openMin[tier] = value;
+			if (value > _openMax[tier]) _openMax[tier] = value;
+		}
+		_openSum[tier] += (long)value * ticks;
+		_openTicks[tier] += ticks;
+	}
+
+	private void close(int tier)
+	{
+		int i = _head[tier];
+		_min[tier][i] = _openMin[tier];
+		_max[tier][i] = _openMax[tier];
+		_avg[tier][i] = (int)(_openSum[tier] / _openTicks[tier]);
+		push(tier);
+		_openTicks[tier] = 0;
+		_openSum[tier] = 0;
+	}
+
+	private void push(int tier)
+	{
+		if (++_head[tier] == _capacity)
+			_head[tier] = 0;
+		if (_count[tier] < _capacity)
+			++_count[tier];
+	}
+
+	/**
+	 * Copies the closed buckets of a tier into the given arrays, oldest first, so that the newest bucket is
+	 * at index <tt>capacity - 1</tt>. Arrays must be at least <tt>getCapacity()</tt> long.
+	 *
+	 * @return The number of valid buckets; they occupy the last <tt>count</tt> slots of each array.
+	 */
+	public int getSeries(int tier, int[] min, int[] max, int[] avg)
+	{
+		final int count = _count[tier], capacity = _capacity;
+		int src = _head[tier] - count;
+		if (src < 0)
+			src += capacity;
+		for (int dst = capacity - count; dst < capacity; ++dst)
+		{
+			min[dst] = _min[tier][src];
+			max[dst] = _max[tier][src];
+			avg[dst] = _avg[tier][src];
+			if (++src == capacity)
+				src = 0;
+		}
+		return count;
+	}
+
+	public void writeToNBT(NBTTagCompound tag)
+	{
+		tag.setLong("time", _time);
+		tag.setInteger("value", _value);
+		for (int t = 0; t < TIERS; ++t)
+		{
+			int count = _count[t];
+			int[] data = new int[4 + count * 3];
+			data[0] = count;
+			data[1] = _openTicks[t];
+			data[2] = _openMin[t];
+			data[3] = _openMax[t];
+			int src = _head[t] - count;
+			if (src < 0)
+				src += _capacity;
+			for (int i = 4, e = data.length; i < e; i += 3)
+			{
+				data[i] = _min[t][src];
+				data[i + 1] = _max[t][src];
+				data[i + 2] = _avg[t][src];
+				if (++src == _capacity)
+					src = 0;
+			}
+			tag.setIntArray("tier" + t, data);
+			tag.setLong("sum" + t, _openSum[t]);
+		}
+	}
+
+	public void readFromNBT(NBTTagCompound tag)
+	{
+		reset(tag.getLong("time"), tag.getInteger("value"));
+		for (int t = 0; t < TIERS; ++t)
+		{
+			int[] data = tag.getIntArray("tier" + t);
+			if (data.length < 4)
+				continue;
+			int count = Math.min(data[0], (data.length - 4) / 3);
+			int skip = Math.max(count - _capacity, 0);
+			for (int i = 4 + skip * 3, e = 4 + count * 3; i < e; i += 3)
+			{
+				int dst = _head[t];
+				_min[t][dst] = data[i];
+				_max[t][dst] = data[i + 1];
+				_avg[t][dst] = data[i + 2];
+				push(t);
+			}
+			_openTicks[t] = Math.min(Math.max(data[1], 0), TIER_TICKS[t] - 1);
+			_openMin[t] = data[2];
+			_openMax[t] = data[3];
+			_openSum[t] = tag.getLong("sum" + t);
+		}
+	}
+}
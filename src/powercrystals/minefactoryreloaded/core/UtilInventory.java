@@ -10,6 +10,7 @@ import cofh.lib.util.helpers.ItemHelper;
 import cofh.lib.util.position.BlockPosition;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -409,6 +410,19 @@ public abstract class UtilInventory
 		from.stackSize -= amountToCopy;
 	}
 
+	/**
+	 * Adds a stack to a list of stacks, topping up equal stacks already in the list before appending what remains.
+	 */
+	public static void addToStacks(List<ItemStack> stacks, ItemStack stack)
+	{
+		if (stack == null || stack.stackSize <= 0)
+			return;
+		for (int i = 0, e = stacks.size(); i < e && stack.stackSize > 0; ++i)
+			mergeStacks(stacks.get(i), stack);
+		if (stack.stackSize > 0)
+			stacks.add(stack);
+	}
+
 	public static boolean stacksEqual(ItemStack s1, ItemStack s2)
 	{
 		return stacksEqual(s1, s2, true);
@@ -11,10 +11,10 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.util.DamageSource;
 import net.minecraft.world.World;
 
-import powercrystals.minefactoryreloaded.api.IFactoryRanchable;
+import powercrystals.minefactoryreloaded.api.IFactoryRanchableTimed;
 import powercrystals.minefactoryreloaded.api.RanchedItem;
 
-public class RanchableChicken implements IFactoryRanchable
+public class RanchableChicken implements IFactoryRanchableTimed
 {
 	protected Random rand = new Random();
 	
@@ -47,4 +47,11 @@ public class RanchableChicken implements IFactoryRanchable
 		}
 		return drops;
 	}
+	
+	@Override
+	public long getNextRanchTime(World world, EntityLivingBase entity)
+	{
+		// the egg timer counts down once per tick, and ranching is allowed below 300
+		return world.getTotalWorldTime() + Math.max(((EntityChicken)entity).timeUntilNextEgg - 299, 0);
+	}
 }
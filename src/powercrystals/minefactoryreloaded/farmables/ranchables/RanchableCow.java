@@ -15,13 +15,13 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidContainerRegistry;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
-import powercrystals.minefactoryreloaded.api.IFactoryRanchable;
+import powercrystals.minefactoryreloaded.api.IFactoryRanchableTimed;
 import powercrystals.minefactoryreloaded.api.RanchedItem;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 
-public class RanchableCow implements IFactoryRanchable
+public class RanchableCow implements IFactoryRanchableTimed
 {
 	@Override
 	public Class<? extends EntityLivingBase> getRanchableEntity()
@@ -47,10 +47,16 @@ public class RanchableCow implements IFactoryRanchable
 		}
 		else
 		{
-			FluidStack milk = FluidRegistry.getFluidStack("milk", FluidContainerRegistry.BUCKET_VOLUME);
+			FluidStack milk = FluidHandle.milk.newStack(FluidContainerRegistry.BUCKET_VOLUME);
 			drops.add(new RanchedItem(milk));
 		}
 		
 		return drops;
 	}
+	
+	@Override
+	public long getNextRanchTime(World world, EntityLivingBase entity)
+	{
+		return entity.getEntityData().getLong("mfr:lastRanched");
+	}
 }
@@ -14,13 +14,13 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
-import powercrystals.minefactoryreloaded.api.IFactoryRanchable;
+import powercrystals.minefactoryreloaded.api.IFactoryRanchableTimed;
 import powercrystals.minefactoryreloaded.api.RanchedItem;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 
-public class RanchableMooshroom implements IFactoryRanchable {
+public class RanchableMooshroom implements IFactoryRanchableTimed {
 	
 	@Override
 	public Class<? extends EntityLivingBase> getRanchableEntity()
@@ -53,10 +53,16 @@ public class RanchableMooshroom implements IFactoryRanchable {
 		}
 		else
 		{
-			FluidStack soup = FluidRegistry.getFluidStack("mushroomsoup", 1000);
+			FluidStack soup = FluidHandle.mushroomSoup.newStack(1000);
 			drops.add(new RanchedItem(soup));
 		}
 		
 		return drops;
 	}
+	
+	@Override
+	public long getNextRanchTime(World world, EntityLivingBase entity)
+	{
+		return entity.getEntityData().getLong("mfr:lastRanched");
+	}
 }
@@ -9,10 +9,10 @@ import net.minecraft.init.Blocks;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.world.World;
 
-import powercrystals.minefactoryreloaded.api.IFactoryRanchable;
+import powercrystals.minefactoryreloaded.api.IFactoryRanchableTimed;
 import powercrystals.minefactoryreloaded.api.RanchedItem;
 
-public class RanchableSheep implements IFactoryRanchable
+public class RanchableSheep implements IFactoryRanchableTimed
 {
 	@Override
 	public Class<? extends EntityLivingBase> getRanchableEntity()
@@ -36,4 +36,12 @@ public class RanchableSheep implements IFactoryRanchable
 		
 		return stacks;
 	}
+	
+	@Override
+	public long getNextRanchTime(World world, EntityLivingBase entity)
+	{
+		EntitySheep s = (EntitySheep)entity;
+		// wool regrows when the sheep happens to eat grass
+		return s.getSheared() || s.getGrowingAge() < 0 ? -1 : world.getTotalWorldTime();
+	}
 }
@@ -10,10 +10,10 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 
-import powercrystals.minefactoryreloaded.api.IFactoryRanchable;
+import powercrystals.minefactoryreloaded.api.IFactoryRanchableTimed;
 import powercrystals.minefactoryreloaded.api.RanchedItem;
 
-public class RanchableSquid implements IFactoryRanchable
+public class RanchableSquid implements IFactoryRanchableTimed
 {
 	@Override
 	public Class<? extends EntityLivingBase> getRanchableEntity()
@@ -34,4 +34,9 @@ public class RanchableSquid implements IFactoryRanchable
 		return drops;
 	}
 	
+	@Override
+	public long getNextRanchTime(World world, EntityLivingBase entity)
+	{
+		return entity.getEntityData().getLong("mfr:lastRanched");
+	}
 }
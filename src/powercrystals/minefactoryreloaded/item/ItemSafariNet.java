@@ -88,14 +88,12 @@ public class ItemSafariNet extends ItemFactory {
 		} else {
 			infoList.add(MFRUtil.localize("entity.", stack.getTagCompound().getString("id")));
 			// See Entity.getEntityName()
-			Class<?> c = (Class<?>)EntityList.stringToClassMapping.get(stack.getTagCompound().getString("id"));
-			if (c == null) {
+			SafariNetCapture capture = SafariNetCapture.get(stack);
+			if (capture == null) {
 				return;
 			}
-			for(ISafariNetHandler handler : MFRRegistry.getSafariNetHandlers()) {
-				if(handler.validFor().isAssignableFrom(c)) {
-					handler.addInformation(stack, player, infoList, advancedTooltips);
-				}
+			for (ISafariNetHandler handler : capture.getHandlers()) {
+				handler.addInformation(stack, player, infoList, advancedTooltips);
 			}
 		}
 	}
@@ -327,7 +325,7 @@ public class ItemSafariNet extends ItemFactory {
 		}
 		if (!isEmpty(itemstack)) {
 			return false;
-		} else if(MFRRegistry.getSafariNetBlacklist().contains(entity.getClass())) {
+		} else if(MFRRegistry.getEntityClassInfo(entity.getClass()).safariNetBlacklisted) {
 			return false;
 		}
 		else if (!(entity instanceof EntityPlayer)) {
@@ -391,19 +389,8 @@ public class ItemSafariNet extends ItemFactory {
 	}
 
 	public static Class<?> getEntityClass(ItemStack s) {
-		if (!isSafariNet(s) || isEmpty(s))
-			return null;
-		if (s.getItemDamage() != 0) {
-			int mobId = s.getItemDamage();
-			if (!EntityList.entityEggs.containsKey(Integer.valueOf(mobId)))
-				return null;
-			return (Class<?>)EntityList.IDtoClassMapping.get(mobId);
-		} else {
-			String mobId = s.getTagCompound().getString("id");
-			if (!EntityList.stringToClassMapping.containsKey(mobId))
-				return null;
-			return (Class<?>)EntityList.stringToClassMapping.get(mobId);
-		}
+		SafariNetCapture capture = SafariNetCapture.get(s);
+		return capture == null ? null : capture.entityClass;
 	}
 
 	@Override
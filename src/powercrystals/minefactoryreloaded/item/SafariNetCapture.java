@@ -0,0 +1,98 @@
+package powercrystals.minefactoryreloaded.item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.entity.EntityList;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import powercrystals.minefactoryreloaded.MFRRegistry;
+import powercrystals.minefactoryreloaded.api.ISafariNetHandler;
+
+/**
+ * The part of a safari net's contents that only depends on which kind of entity it holds, resolved once per
+ * entity id and shared by every net holding that kind.
+ * <p>
+ * The entity compound itself stays on the stack, as handlers and saved nets expect it there; this only saves
+ * the machines and item renderer from resolving the class and tooltip handlers from it again every time they
+ * look at a net. Entries are discarded whenever a safari net handler is registered.
+ */
+public final class SafariNetCapture
+{
+	private static final Map<String, SafariNetCapture> captures = new ConcurrentHashMap<String, SafariNetCapture>();
+	private static final ISafariNetHandler[] noHandlers = new ISafariNetHandler[0];
+
+	public final String entityId;
+	public final Class<?> entityClass;
+	private ISafariNetHandler[] _handlers;
+
+	private SafariNetCapture(String entityId, Class<?> entityClass)
+	{
+		this.entityId = entityId;
+		this.entityClass = entityClass;
+	}
+
+	/**
+	 * @return The capture held by <tt>stack</tt>, or null if it is empty, a mystery net, or not a safari net.
+	 */
+	public static SafariNetCapture get(ItemStack stack)
+	{
+		if (ItemSafariNet.isEmpty(stack))
+			return null;
+		if (stack.getItemDamage() != 0)
+		{
+			int mobId = stack.getItemDamage();
+			if (!EntityList.entityEggs.containsKey(Integer.valueOf(mobId)))
+				return null;
+			return get(EntityList.getStringFromID(mobId));
+		}
+		NBTTagCompound tag = stack.getTagCompound();
+		if (tag.getBoolean("hide"))
+			return null;
+		return get(tag.getString("id"));
+	}
+
+	public static SafariNetCapture get(String entityId)
+	{
+		if (entityId == null || entityId.isEmpty())
+			return null;
+		SafariNetCapture capture = captures.get(entityId);
+		if (capture == null)
+		{
+			capture = new SafariNetCapture(entityId, (Class<?>)EntityList.stringToClassMapping.get(entityId));
+			captures.put(entityId, capture);
+		}
+		return capture;
+	}
+
+	public static void clearCache()
+	{
+		captures.clear();
+	}
+
+	/**
+	 * @return The tooltip handlers that apply to this entity, in registration order.
+	 */
+	public ISafariNetHandler[] getHandlers()
+	{
+		ISafariNetHandler[] handlers = _handlers;
+		if (handlers == null)
+		{
+			if (entityClass == null)
+				handlers = noHandlers;
+			else
+			{
+				List<ISafariNetHandler> found = new ArrayList<ISafariNetHandler>();
+				for (ISafariNetHandler handler : MFRRegistry.getSafariNetHandlers())
+					if (handler.validFor().isAssignableFrom(entityClass))
+						found.add(handler);
+				handlers = found.toArray(new ISafariNetHandler[found.size()]);
+			}
+			_handlers = handlers;
+		}
+		return handlers;
+	}
+}
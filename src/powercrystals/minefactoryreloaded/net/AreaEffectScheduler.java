@@ -0,0 +1,249 @@
+package powercrystals.minefactoryreloaded.net;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
+import cpw.mods.fml.relauncher.Side;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.World;
+
+import powercrystals.minefactoryreloaded.core.IAreaEffect;
+
+/**
+ * Runs {@link IAreaEffect}s on their intervals. Effects with the same interval in the same chunk are put on
+ * the same tick, and share one entity search over the union of their volumes, each getting the part of the
+ * result inside its own; different chunks are staggered over the interval so they don't all search at once.
+ * Effects that are not active when they come due are skipped, and a chunk with none active is not searched.
+ */
+public class AreaEffectScheduler
+{
+	public static final AreaEffectScheduler instance = new AreaEffectScheduler();
+
+	private final Map<World, Schedule> schedules = new WeakHashMap<World, Schedule>();
+
+	public static void register(World world, IAreaEffect effect)
+	{
+		if (world.isRemote)
+			return;
+		Schedule schedule = instance.schedules.get(world);
+		if (schedule == null)
+		{
+			schedule = new Schedule();
+			instance.schedules.put(world, schedule);
+		}
+		schedule.add(effect, world.getTotalWorldTime());
+	}
+
+	public static void unregister(World world, IAreaEffect effect)
+	{
+		if (world == null || world.isRemote)
+			return;
+		Schedule schedule = instance.schedules.get(world);
+		if (schedule != null)
+			schedule.remove(effect);
+	}
+
+	@SubscribeEvent
+	public void tick(WorldTickEvent evt)
+	{
+		if (evt.phase != Phase.END || evt.side != Side.SERVER)
+			return;
+		Schedule schedule = schedules.get(evt.world);
+		if (schedule != null && !schedule.isEmpty())
+			schedule.tick(evt.world);
+	}
+
+	private static final class Scheduled
+	{
+		final IAreaEffect effect;
+		final int interval, slot;
+		final long chunk;
+		long next;
+
+		Scheduled(IAreaEffect effect, int interval, int slot, long chunk)
+		{
+			this.effect = effect;
+			this.interval = interval;
+			this.slot = slot;
+			this.chunk = chunk;
+		}
+	}
+
+	private static final class Schedule
+	{
+		private final IdentityHashMap<IAreaEffect, Scheduled> effects = new IdentityHashMap<IAreaEffect, Scheduled>();
+		private final TLongObjectHashMap<List<Scheduled>> dueAt = new TLongObjectHashMap<List<Scheduled>>();
+		// per interval: how many chunks use each slot, and the slot and effect count of each chunk
+		private final TIntObjectHashMap<int[]> slotLoad = new TIntObjectHashMap<int[]>();
+		private final TIntObjectHashMap<TLongObjectHashMap<int[]>> chunkSlots = new TIntObjectHashMap<TLongObjectHashMap<int[]>>();
+		private final TLongObjectHashMap<List<Scheduled>> groups = new TLongObjectHashMap<List<Scheduled>>();
+		private final List<EntityLivingBase> scratch = new ArrayList<EntityLivingBase>();
+
+		boolean isEmpty()
+		{
+			return effects.isEmpty();
+		}
+
+		void add(IAreaEffect effect, long now)
+		{
+			if (effects.containsKey(effect))
+				return;
+			int interval = Math.max(effect.getEffectInterval(), 1);
+			AxisAlignedBB area = effect.getEffectArea();
+			int cX = (int)Math.floor((area.minX + area.maxX) / 2) >> 4;
+			int cZ = (int)Math.floor((area.minZ + area.maxZ) / 2) >> 4;
+			long chunk = ((long)cX << 32) | (cZ & 0xFFFFFFFFL);
+
+			TLongObjectHashMap<int[]> chunks = chunkSlots.get(interval);
+			if (chunks == null)
+			{
+				chunks = new TLongObjectHashMap<int[]>();
+				chunkSlots.put(interval, chunks);
+			}
+			int[] chunkSlot = chunks.get(chunk);
+			if (chunkSlot == null)
+			{
+				int[] load = slotLoad.get(interval);
+				if (load == null)
+				{
+					load = new int[interval];
+					slotLoad.put(interval, load);
+				}
+				int least = 0;
+				for (int i = interval; i --> 1; )
+					if (load[i] < load[least])
+						least = i;
+				++load[least];
+				chunkSlot = new int[] {least, 0};
+				chunks.put(chunk, chunkSlot);
+			}
+			++chunkSlot[1];
+			int slot = chunkSlot[0];
+
+			Scheduled s = new Scheduled(effect, interval, slot, chunk);
+			effects.put(effect, s);
+			long first = now + 1;
+			schedule(s, first + (((slot - first) % interval) + interval) % interval);
+		}
+
+		void remove(IAreaEffect effect)
+		{
+			Scheduled s = effects.remove(effect);
+			if (s == null)
+				return;
+			release(s);
+			List<Scheduled> due = dueAt.get(s.next);
+			if (due != null)
+				due.remove(s);
+		}
+
+		private void release(Scheduled s)
+		{
+			TLongObjectHashMap<int[]> chunks = chunkSlots.get(s.interval);
+			int[] chunkSlot = chunks.get(s.chunk);
+			if (--chunkSlot[1] == 0)
+			{
+				chunks.remove(s.chunk);
+				--slotLoad.get(s.interval)[s.slot];
+			}
+		}
+
+		private void schedule(Scheduled s, long time)
+		{
+			s.next = time;
+			List<Scheduled> due = dueAt.get(time);
+			if (due == null)
+			{
+				due = new ArrayList<Scheduled>(4);
+				dueAt.put(time, due);
+			}
+			due.add(s);
+		}
+
+		void tick(World world)
+		{
+			long now = world.getTotalWorldTime();
+			List<Scheduled> due = dueAt.remove(now);
+			if (due == null)
+				return;
+
+			for (int i = 0, e = due.size(); i < e; ++i)
+			{
+				Scheduled s = due.get(i);
+				if (s.effect.isNotValid())
+				{
+					effects.remove(s.effect);
+					release(s);
+					continue;
+				}
+				schedule(s, now + s.interval);
+				if (!s.effect.isEffectActive())
+					continue;
+				List<Scheduled> group = groups.get(s.chunk);
+				if (group == null)
+				{
+					group = new ArrayList<Scheduled>(2);
+					groups.put(s.chunk, group);
+				}
+				group.add(s);
+			}
+
+			for (List<Scheduled> group : groups.valueCollection())
+				apply(world, group);
+			groups.clear();
+		}
+
+		@SuppressWarnings("unchecked")
+		private void apply(World world, List<Scheduled> group)
+		{
+			if (group.size() == 1)
+			{
+				IAreaEffect effect = group.get(0).effect;
+				effect.applyEffect(world.getEntitiesWithinAABB(EntityLivingBase.class, effect.getEffectArea()));
+				return;
+			}
+
+			AxisAlignedBB[] areas = new AxisAlignedBB[group.size()];
+			double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+			double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+			for (int i = areas.length; i --> 0; )
+			{
+				AxisAlignedBB bb = areas[i] = group.get(i).effect.getEffectArea();
+				minX = Math.min(minX, bb.minX); maxX = Math.max(maxX, bb.maxX);
+				minY = Math.min(minY, bb.minY); maxY = Math.max(maxY, bb.maxY);
+				minZ = Math.min(minZ, bb.minZ); maxZ = Math.max(maxZ, bb.maxZ);
+			}
+			List<EntityLivingBase> entities = world.getEntitiesWithinAABB(EntityLivingBase.class,
+				AxisAlignedBB.getBoundingBox(minX, minY, minZ, maxX, maxY, maxZ));
+
+			for (int i = 0, e = areas.length; i < e; ++i)
+			{
+				if (entities.isEmpty())
+				{
+					group.get(i).effect.applyEffect(entities);
+					continue;
+				}
+				List<EntityLivingBase> inside = scratch;
+				for (int j = 0, f = entities.size(); j < f; ++j)
+				{
+					EntityLivingBase entity = entities.get(j);
+					if (!entity.isDead && entity.boundingBox.intersectsWith(areas[i]))
+						inside.add(entity);
+				}
+				group.get(i).effect.applyEffect(inside);
+				inside.clear();
+			}
+		}
+	}
+}
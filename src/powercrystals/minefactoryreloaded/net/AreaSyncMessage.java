@@ -0,0 +1,142 @@
+package powercrystals.minefactoryreloaded.net;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.network.ByteBufUtils;
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.network.Packet;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+
+import powercrystals.minefactoryreloaded.MineFactoryReloadedClient;
+import powercrystals.minefactoryreloaded.MineFactoryReloadedCore;
+import powercrystals.minefactoryreloaded.tile.base.TileEntityFactory;
+
+/**
+ * Harvest area upgrade levels for any number of machines in one chunk.
+ * <p>
+ * Sent once for a whole chunk when a player starts watching it, and for a single machine when its upgrade
+ * changes. Machines with no upgrade are left out of chunk syncs, as that is what the client already assumes.
+ */
+public class AreaSyncMessage implements IMessage
+{
+	public int dimension, chunkX, chunkZ;
+	public int count;
+	public ByteBuf entries;
+
+	public AreaSyncMessage() {}
+
+	public AreaSyncMessage(World world, int chunkX, int chunkZ)
+	{
+		this.dimension = world.provider.dimensionId;
+		this.chunkX = chunkX;
+		this.chunkZ = chunkZ;
+		entries = Unpooled.buffer();
+	}
+
+	public AreaSyncMessage(TileEntityFactory te)
+	{
+		this(te.getWorldObj(), te.xCoord >> 4, te.zCoord >> 4);
+		add(te);
+	}
+
+	public void add(TileEntityFactory te)
+	{
+		entries.writeByte((te.xCoord & 15) << 4 | (te.zCoord & 15));
+		entries.writeByte(te.yCoord);
+		ByteBufUtils.writeVarInt(entries, te.getHAM().getUpgradeLevel(), 5);
+		++count;
+	}
+
+	@Override
+	public void toBytes(ByteBuf buf)
+	{
+		buf.writeInt(dimension);
+		buf.writeInt(chunkX);
+		buf.writeInt(chunkZ);
+		ByteBufUtils.writeVarShort(buf, count);
+		buf.writeBytes(entries, entries.readerIndex(), entries.readableBytes());
+	}
+
+	@Override
+	public void fromBytes(ByteBuf buf)
+	{
+		dimension = buf.readInt();
+		chunkX = buf.readInt();
+		chunkZ = buf.readInt();
+		count = ByteBufUtils.readVarShort(buf);
+		entries = buf.readBytes(buf.readableBytes());
+	}
+
+	public Packet toPacket()
+	{
+		return MineFactoryReloadedCore.networkWrapper.getPacketFrom(this);
+	}
+
+	/**
+	 * Builds the sync for every upgraded machine in a chunk, or returns null if there are none.
+	 */
+	public static AreaSyncMessage forChunk(Chunk chunk)
+	{
+		AreaSyncMessage message = null;
+		for (Object o : chunk.chunkTileEntityMap.values())
+		{
+			if (!(o instanceof TileEntityFactory))
+				continue;
+			TileEntityFactory te = (TileEntityFactory)o;
+			if (te.isInvalid() || !te.hasHAM() || te.getHAM().getUpgradeLevel() == 0)
+				continue;
+			if (message == null)
+				message = new AreaSyncMessage(chunk.worldObj, chunk.xPosition, chunk.zPosition);
+			message.add(te);
+		}
+		return message;
+	}
+
+	public static class Handler implements IMessageHandler<AreaSyncMessage, IMessage>
+	{
+		@Override
+		public IMessage onMessage(AreaSyncMessage message, MessageContext ctx)
+		{
+			World world = MineFactoryReloadedCore.proxy.getClientWorld();
+			if (world == null || world.provider.dimensionId != message.dimension)
+				return null;
+
+			ByteBuf data = message.entries;
+			int baseX = message.chunkX << 4, baseZ = message.chunkZ << 4;
+			for (int i = message.count; i --> 0; )
+			{
+				int xz = data.readUnsignedByte(), y = data.readUnsignedByte();
+				int level = ByteBufUtils.readVarInt(data, 5);
+				TileEntity te = world.getTileEntity(baseX + (xz >> 4), y, baseZ + (xz & 15));
+				if (te instanceof TileEntityFactory && ((TileEntityFactory)te).hasHAM())
+				{
+					((TileEntityFactory)te).getHAM().setUpgradeLevel(level);
+					MineFactoryReloadedClient.addTileToAreaList((TileEntityFactory)te);
+				}
+			}
+			return null;
+		}
+	}
+
+	public static class ChunkWatcher
+	{
+		@SubscribeEvent
+		public void onChunkWatch(ChunkWatchEvent.Watch evt)
+		{
+			World world = evt.player.worldObj;
+			if (!world.getChunkProvider().chunkExists(evt.chunk.chunkXPos, evt.chunk.chunkZPos))
+				return;
+			AreaSyncMessage message = forChunk(world.getChunkFromChunkCoords(evt.chunk.chunkXPos, evt.chunk.chunkZPos));
+			if (message != null)
+				MineFactoryReloadedCore.networkWrapper.sendTo(message, evt.player);
+		}
+	}
+}
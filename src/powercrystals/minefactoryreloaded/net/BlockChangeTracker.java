@@ -0,0 +1,182 @@
+package powercrystals.minefactoryreloaded.net;
+
+import cofh.lib.util.position.Area;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+import gnu.trove.map.hash.TLongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.IWorldAccess;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+
+import powercrystals.minefactoryreloaded.core.IBlockChangeWatcher;
+
+/**
+ * Reports block changes inside registered areas of a server world.
+ * <p>
+ * One tracker is attached to each world as an {@link IWorldAccess}, which sees every block and metadata change
+ * that is sent to clients, including growth and changes made by other machines. Watches are bucketed by chunk, so
+ * a change outside every watched chunk costs a single map lookup.
+ */
+public class BlockChangeTracker implements IWorldAccess
+{
+	public static final class Watch
+	{
+		final BlockChangeTracker tracker;
+		final IBlockChangeWatcher watcher;
+		final int xMin, yMin, zMin, xMax, yMax, zMax;
+		boolean cancelled;
+
+		Watch(BlockChangeTracker tracker, IBlockChangeWatcher watcher, Area area)
+		{
+			this.tracker = tracker;
+			this.watcher = watcher;
+			xMin = area.xMin;
+			yMin = area.yMin;
+			zMin = area.zMin;
+			xMax = area.xMax;
+			yMax = area.yMax;
+			zMax = area.zMax;
+		}
+
+		/**
+		 * Stops reporting changes and removes this watch from its chunks, so it no longer keeps its watcher alive.
+		 */
+		public void cancel()
+		{
+			if (cancelled)
+				return;
+			cancelled = true;
+			TLongObjectHashMap<ArrayList<Watch>> chunks = tracker.chunks;
+			for (int cx = xMin >> 4, ex = xMax >> 4; cx <= ex; ++cx)
+				for (int cz = zMin >> 4, ez = zMax >> 4; cz <= ez; ++cz)
+				{
+					long key = ChunkCoordIntPair.chunkXZ2Int(cx, cz);
+					ArrayList<Watch> list = chunks.get(key);
+					if (list == null)
+						continue;
+					for (int i = list.size(); i --> 0; )
+						if (list.get(i) == this)
+							list.remove(i);
+					if (list.isEmpty())
+						chunks.remove(key);
+				}
+		}
+	}
+
+	private static WeakHashMap<World, BlockChangeTracker> trackers = new WeakHashMap<World, BlockChangeTracker>();
+
+	private TLongObjectHashMap<ArrayList<Watch>> chunks = new TLongObjectHashMap<ArrayList<Watch>>();
+
+	/**
+	 * Starts reporting changes inside <tt>area</tt> to <tt>watcher</tt> until the returned watch is cancelled or
+	 * the watcher becomes invalid. Server worlds only.
+	 */
+	public static Watch watch(World world, IBlockChangeWatcher watcher, Area area)
+	{
+		BlockChangeTracker tracker = trackers.get(world);
+		if (tracker == null)
+		{
+			trackers.put(world, tracker = new BlockChangeTracker());
+			world.addWorldAccess(tracker);
+		}
+		Watch watch = new Watch(tracker, watcher, area);
+		for (int cx = watch.xMin >> 4, ex = watch.xMax >> 4; cx <= ex; ++cx)
+			for (int cz = watch.zMin >> 4, ez = watch.zMax >> 4; cz <= ez; ++cz)
+			{
+				long key = ChunkCoordIntPair.chunkXZ2Int(cx, cz);
+				ArrayList<Watch> list = tracker.chunks.get(key);
+				if (list == null)
+					tracker.chunks.put(key, list = new ArrayList<Watch>(2));
+				list.add(watch);
+			}
+		return watch;
+	}
+
+	/**
+	 * Detaches the tracker of each world as it unloads, along with every watch still registered in it.
+	 */
+	public static class UnloadHandler
+	{
+		@SubscribeEvent
+		public void onWorldUnload(WorldEvent.Unload evt)
+		{
+			BlockChangeTracker tracker = trackers.remove(evt.world);
+			if (tracker != null)
+			{
+				evt.world.removeWorldAccess(tracker);
+				tracker.chunks.clear();
+			}
+		}
+	}
+
+	@Override
+	public void markBlockForUpdate(int x, int y, int z)
+	{
+		long key = ChunkCoordIntPair.chunkXZ2Int(x >> 4, z >> 4);
+		ArrayList<Watch> list = chunks.get(key);
+		if (list == null)
+			return;
+		for (int i = list.size(); i --> 0; )
+		{
+			if (i >= list.size()) // a watcher cancelled watches while being told of this change
+				continue;
+			Watch watch = list.get(i);
+			if (watch.watcher.isNotValid())
+			{
+				watch.cancel();
+				continue;
+			}
+			if (x >= watch.xMin && x <= watch.xMax &&
+					y >= watch.yMin && y <= watch.yMax &&
+					z >= watch.zMin && z <= watch.zMax)
+				watch.watcher.onBlockChanged(x, y, z);
+		}
+		if (list.isEmpty())
+			chunks.remove(key);
+	}
+
+	@Override
+	public void markBlockForRenderUpdate(int x, int y, int z) {}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {}
+
+	@Override
+	public void playSound(String sound, double x, double y, double z, float volume, float pitch) {}
+
+	@Override
+	public void playSoundToNearExcept(EntityPlayer player, String sound, double x, double y, double z,
+			float volume, float pitch) {}
+
+	@Override
+	public void spawnParticle(String particle, double x, double y, double z, double vx, double vy, double vz) {}
+
+	@Override
+	public void onEntityCreate(Entity entity) {}
+
+	@Override
+	public void onEntityDestroy(Entity entity) {}
+
+	@Override
+	public void playRecord(String record, int x, int y, int z) {}
+
+	@Override
+	public void broadcastSound(int type, int x, int y, int z, int data) {}
+
+	@Override
+	public void playAuxSFX(EntityPlayer player, int type, int x, int y, int z, int data) {}
+
+	@Override
+	public void destroyBlockPartially(int entityId, int x, int y, int z, int progress) {}
+
+	@Override
+	public void onStaticEntitiesChanged() {}
+}
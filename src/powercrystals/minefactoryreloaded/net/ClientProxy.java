@@ -1,6 +1,8 @@
 package powercrystals.minefactoryreloaded.net;
 
+import net.minecraft.client.Minecraft;
 import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.world.World;
 
 import powercrystals.minefactoryreloaded.MineFactoryReloadedClient;
 
@@ -18,4 +20,10 @@ public class ClientProxy extends CommonProxy
 	{
 		e.setPositionAndUpdate(x, y, z);
 	}
+
+	@Override
+	public World getClientWorld()
+	{
+		return Minecraft.getMinecraft().theWorld;
+	}
 }
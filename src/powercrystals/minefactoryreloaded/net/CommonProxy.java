@@ -59,6 +59,8 @@ public class CommonProxy implements IMFRProxy, LoadingCallback
 		FMLCommonHandler.instance().bus().register(GridTickHandler.energy);
 		FMLCommonHandler.instance().bus().register(GridTickHandler.redstone);
 		FMLCommonHandler.instance().bus().register(GridTickHandler.fluid);
+		FMLCommonHandler.instance().bus().register(WakeTickHandler.instance);
+		FMLCommonHandler.instance().bus().register(AreaEffectScheduler.instance);
 		FMLCommonHandler.instance().bus().register(new ConnectionHandler());
 		ForgeChunkManager.setForcedChunkLoadingCallback(MineFactoryReloadedCore.instance(), this);
 	}
@@ -74,6 +76,12 @@ public class CommonProxy implements IMFRProxy, LoadingCallback
 		e.setPositionAndUpdate(x, y, z);
 	}
 
+	@Override
+	public World getClientWorld()
+	{
+		return null;
+	}
+
 	@Override
 	public void relightChunk(Chunk chunk)
 	{
@@ -93,17 +101,71 @@ public class CommonProxy implements IMFRProxy, LoadingCallback
 				}
 			chunk.resetRelightChecks();
 			chunk.isModified = true;
-			World world = chunk.worldObj;
-			if (world instanceof WorldServer)
+			resendChunk(chunk);
+		}
+	}
+
+	@Override
+	public void relightColumns(Chunk chunk, short[] columns)
+	{
+		if (chunk == null)
+			return;
+		if (!chunk.worldObj.provider.hasNoSky)
+		{
+			ExtendedBlockStorage[] storage = chunk.getBlockStorageArray();
+			int top = chunk.getTopFilledSegment() + 15;
+			for (int z = 0; z < 16; ++z)
 			{
-				PlayerManager manager = ((WorldServer)world).getPlayerManager();
-				if (manager == null)
-					return;
-				PlayerInstance watcher = manager.
-						getOrCreateChunkWatcher(chunk.xPosition, chunk.zPosition, false);
-				if (watcher != null)
-					watcher.sendToAllPlayersWatchingChunk(new S21PacketChunkData(chunk, false, -1));
+				int row = columns[z] & 0xFFFF;
+				for (int x = 0; row != 0; ++x, row >>>= 1)
+				{
+					if ((row & 1) == 0)
+						continue;
+					// the height map, as generateSkylightMap computes it, for one column
+					int y = top;
+					while (y > 0 && chunk.func_150808_b(x, y - 1, z) == 0)
+						--y;
+					chunk.heightMap[z << 4 | x] = y;
+					if (y < chunk.heightMapMinimum)
+						chunk.heightMapMinimum = y;
+					chunk.precipitationHeightMap[z << 4 | x] = -999;
+
+					// unlike a fresh chunk, the column may already hold light that is now shaded
+					int light = 15;
+					for (y = top; y >= 0; --y)
+					{
+						if (light > 0)
+						{
+							int opacity = chunk.func_150808_b(x, y, z);
+							if (opacity == 0 && light != 15)
+								opacity = 1;
+							light = Math.max(light - opacity, 0);
+						}
+						ExtendedBlockStorage s = storage[y >> 4];
+						if (s != null)
+							s.setExtSkylightValue(x, y & 15, z, light);
+					}
+				}
 			}
 		}
+		// light spreading sideways is left to the chunk's own relight checks
+		chunk.resetRelightChecks();
+		chunk.isModified = true;
+		resendChunk(chunk);
+	}
+
+	private static void resendChunk(Chunk chunk)
+	{
+		World world = chunk.worldObj;
+		if (world instanceof WorldServer)
+		{
+			PlayerManager manager = ((WorldServer)world).getPlayerManager();
+			if (manager == null)
+				return;
+			PlayerInstance watcher = manager.
+					getOrCreateChunkWatcher(chunk.xPosition, chunk.zPosition, false);
+			if (watcher != null)
+				watcher.sendToAllPlayersWatchingChunk(new S21PacketChunkData(chunk, false, -1));
+		}
 	}
 }
@@ -1,6 +1,7 @@
 package powercrystals.minefactoryreloaded.net;
 
 import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 
 public interface IMFRProxy
@@ -10,4 +11,15 @@ public interface IMFRProxy
 	public void movePlayerToCoordinates(EntityLivingBase e, double x, double y, double z);
 
 	public void relightChunk(Chunk chunk);
+
+	/**
+	 * Recomputes the height map and sky light of only the given columns of a chunk, after blocks were written
+	 * straight into its storage; <tt>columns[z]</tt> has bit <tt>x</tt> set for each column to light.
+	 */
+	public void relightColumns(Chunk chunk, short[] columns);
+
+	/**
+	 * @return The world the client is showing, or null on a dedicated server or while no world is loaded.
+	 */
+	public World getClientWorld();
 }
@@ -0,0 +1,175 @@
+package powercrystals.minefactoryreloaded.net;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+import gnu.trove.map.hash.TLongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.WeakHashMap;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import powercrystals.minefactoryreloaded.core.INeighborCache;
+
+/**
+ * Resolves the neighbors of conduits without loading chunks.
+ * <p>
+ * Neighbors in loaded chunks are looked up directly from the chunk; neighbors in chunks that are not loaded yet
+ * are queued per chunk, and the whole queue for a chunk is resolved in one pass when that chunk loads.
+ */
+public class NeighborCacheResolver
+{
+	private static final class Pending
+	{
+		final INeighborCache cache;
+		final int side, x, y, z;
+
+		Pending(INeighborCache cache, int side, int x, int y, int z)
+		{
+			this.cache = cache;
+			this.side = side;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+		}
+	}
+
+	private static WeakHashMap<World, TLongObjectHashMap<ArrayList<Pending>>> pending =
+			new WeakHashMap<World, TLongObjectHashMap<ArrayList<Pending>>>();
+
+	/**
+	 * Resolves all six neighbors of <tt>tile</tt>, calling {@link INeighborCache#onNeighborResolved} for each one
+	 * immediately if its chunk is loaded, or when the chunk loads otherwise.
+	 */
+	public static <T extends TileEntity & INeighborCache> void resolve(T tile)
+	{
+		World world = tile.getWorldObj();
+		int cx = tile.xCoord >> 4, cz = tile.zCoord >> 4;
+		Chunk home = world.getChunkFromChunkCoords(cx, cz);
+		ForgeDirection[] dirs = ForgeDirection.VALID_DIRECTIONS;
+		for (int i = 0; i < 6; ++i)
+		{
+			ForgeDirection dir = dirs[i];
+			int x = tile.xCoord + dir.offsetX, y = tile.yCoord + dir.offsetY, z = tile.zCoord + dir.offsetZ;
+			if ((y < 0) | y > 255)
+			{
+				tile.onNeighborResolved(null, i);
+				continue;
+			}
+			int ncx = x >> 4, ncz = z >> 4;
+			Chunk chunk = home;
+			if ((ncx != cx) | ncz != cz)
+			{
+				if (!world.getChunkProvider().chunkExists(ncx, ncz))
+				{
+					enqueue(world, ncx, ncz, new Pending(tile, i, x, y, z));
+					continue;
+				}
+				chunk = world.getChunkFromChunkCoords(ncx, ncz);
+			}
+			tile.onNeighborResolved(chunk.func_150806_e(x & 15, y, z & 15), i);
+		}
+	}
+
+	/**
+	 * Drops any neighbors of <tt>tile</tt> still waiting on their chunk. Call when it is invalidated or its chunk
+	 * unloads, so the queues do not keep it (and its world) alive.
+	 */
+	public static <T extends TileEntity & INeighborCache> void cancel(T tile)
+	{
+		World world = tile.getWorldObj();
+		if (world == null)
+			return;
+		int cx = tile.xCoord >> 4, cz = tile.zCoord >> 4;
+		synchronized (pending)
+		{
+			TLongObjectHashMap<ArrayList<Pending>> chunks = pending.get(world);
+			if (chunks == null)
+				return;
+			ForgeDirection[] dirs = ForgeDirection.VALID_DIRECTIONS;
+			for (int i = 2; i < 6; ++i)
+			{
+				int ncx = (tile.xCoord + dirs[i].offsetX) >> 4, ncz = (tile.zCoord + dirs[i].offsetZ) >> 4;
+				if ((ncx == cx) & ncz == cz)
+					continue;
+				long key = ChunkCoordIntPair.chunkXZ2Int(ncx, ncz);
+				ArrayList<Pending> list = chunks.get(key);
+				if (list == null)
+					continue;
+				for (Iterator<Pending> iter = list.iterator(); iter.hasNext(); )
+					if (iter.next().cache == tile)
+						iter.remove();
+				if (list.isEmpty())
+					chunks.remove(key);
+			}
+			if (chunks.isEmpty())
+				pending.remove(world);
+		}
+	}
+
+	private static void enqueue(World world, int cx, int cz, Pending entry)
+	{
+		synchronized (pending)
+		{
+			TLongObjectHashMap<ArrayList<Pending>> chunks = pending.get(world);
+			if (chunks == null)
+				pending.put(world, chunks = new TLongObjectHashMap<ArrayList<Pending>>());
+			long key = ChunkCoordIntPair.chunkXZ2Int(cx, cz);
+			ArrayList<Pending> list = chunks.get(key);
+			if (list == null)
+				chunks.put(key, list = new ArrayList<Pending>(6));
+			else if ((list.size() & 15) == 15)
+			{
+				// conduits that were unloaded before this chunk loaded would otherwise pile up here
+				for (Iterator<Pending> iter = list.iterator(); iter.hasNext(); )
+					if (iter.next().cache.isNotValid())
+						iter.remove();
+			}
+			list.add(entry);
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load evt)
+	{
+		World world = evt.world;
+		if (world.isRemote)
+			return;
+		Chunk chunk = evt.getChunk();
+		ArrayList<Pending> list;
+		synchronized (pending)
+		{
+			TLongObjectHashMap<ArrayList<Pending>> chunks = pending.get(world);
+			if (chunks == null)
+				return;
+			list = chunks.remove(ChunkCoordIntPair.chunkXZ2Int(chunk.xPosition, chunk.zPosition));
+			if (chunks.isEmpty())
+				pending.remove(world);
+		}
+		if (list == null)
+			return;
+
+		for (int i = 0, e = list.size(); i < e; ++i)
+		{
+			Pending entry = list.get(i);
+			if (!entry.cache.isNotValid())
+				entry.cache.onNeighborResolved(chunk.func_150806_e(entry.x & 15, entry.y, entry.z & 15), entry.side);
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt)
+	{
+		synchronized (pending)
+		{
+			pending.remove(evt.world);
+		}
+	}
+}
@@ -31,7 +31,7 @@ public final class Packets
 			PlayerManager manager = ((WorldServer)world).getPlayerManager();
 			if (manager == null)
 				return;
-			PlayerInstance watcher = manager.getOrCreateChunkWatcher(x >> 4, x >> 4, false);
+			PlayerInstance watcher = manager.getOrCreateChunkWatcher(x >> 4, z >> 4, false);
 			if (watcher != null)
 				watcher.sendToAllPlayersWatchingChunk(packet);
 		}
@@ -70,7 +70,6 @@ public final class Packets
 	public static final short EnchanterButton	= 0;
 	public static final short HarvesterButton	= 1;
 	public static final short ChronotyperButton	= 2;
-	public static final short HAMUpdate			= 3;
 	public static final short AutoJukeboxButton	= 4;
 	public static final short AutoSpawnerButton	= 5;
 	public static final short CircuitDefinition	= 6;
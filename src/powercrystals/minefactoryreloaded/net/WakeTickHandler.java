@@ -0,0 +1,63 @@
+package powercrystals.minefactoryreloaded.net;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+import powercrystals.minefactoryreloaded.core.IWakeable;
+
+/**
+ * Ticks tile entities that do not need to be in the world's tick list permanently.
+ * Tiles are added with {@link #wake} and drop out again as soon as they report they are idle.
+ */
+public class WakeTickHandler
+{
+	public static final WakeTickHandler instance = new WakeTickHandler();
+
+	private LinkedHashSet<IWakeable> awake = new LinkedHashSet<IWakeable>();
+	private LinkedHashSet<IWakeable> awakeToAdd = new LinkedHashSet<IWakeable>();
+
+	public static void wake(IWakeable tile)
+	{
+		synchronized (instance.awakeToAdd)
+		{
+			instance.awakeToAdd.add(tile);
+		}
+	}
+
+	@SubscribeEvent
+	public void tick(ServerTickEvent evt)
+	{
+		if (evt.phase != Phase.END)
+			return;
+
+		if (!awakeToAdd.isEmpty())
+		synchronized (awakeToAdd)
+		{
+			awake.addAll(awakeToAdd);
+			awakeToAdd.clear();
+		}
+
+		if (!awake.isEmpty())
+		{
+			IWakeable tile = null;
+			try
+			{
+				Iterator<IWakeable> iter = awake.iterator();
+				while (iter.hasNext())
+				{
+					tile = iter.next();
+					if (tile.isNotValid() || !tile.wakeTick())
+						iter.remove();
+				}
+			}
+			catch (Throwable _)
+			{
+				throw new RuntimeException("Crashing on tile " + tile, _);
+			}
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package powercrystals.minefactoryreloaded.render;
+
+import cofh.lib.util.position.Area;
+
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.map.hash.TLongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.client.renderer.culling.ICamera;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.AxisAlignedBB;
+
+import powercrystals.minefactoryreloaded.core.IHarvestAreaContainer;
+
+/**
+ * The work areas drawn while holding the hammer, bucketed by the chunk their machine is in so only the
+ * machines near the viewer are looked at each frame.
+ * <p>
+ * Each entry keeps its box, colour and quads until its machine's area is recalculated. Nothing here touches
+ * GL; the caller draws what {@link #collect} returns.
+ */
+public class HarvestAreaOverlay
+{
+	public static final double EPSILON = 0.006;
+
+	private final TLongObjectHashMap<List<Entry>> _buckets = new TLongObjectHashMap<List<Entry>>();
+	private int _maxExtent;
+
+	private static long key(int chunkX, int chunkZ)
+	{
+		return ((long)chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Adds <tt>container</tt>, or rebuilds its entry if it is already here. Must be called again whenever its
+	 * area changes size, as areas are only found if their machine is within range of their largest extent.
+	 */
+	public void add(IHarvestAreaContainer container)
+	{
+		TileEntity te = (TileEntity)container;
+		long key = key(te.xCoord >> 4, te.zCoord >> 4);
+		List<Entry> bucket = _buckets.get(key);
+		if (bucket == null)
+		{
+			bucket = new ArrayList<Entry>(2);
+			_buckets.put(key, bucket);
+		}
+		Entry entry = null;
+		for (int i = bucket.size(); i --> 0; )
+			if (bucket.get(i).container == container)
+				entry = bucket.get(i);
+		if (entry == null)
+		{
+			entry = new Entry(container);
+			bucket.add(entry);
+		}
+		// built here rather than in collect, so the scan window covers machines whose area reaches into it
+		entry.update();
+		_maxExtent = Math.max(_maxExtent, entry.extent);
+	}
+
+	public void remove(IHarvestAreaContainer container)
+	{
+		TileEntity te = (TileEntity)container;
+		long key = key(te.xCoord >> 4, te.zCoord >> 4);
+		List<Entry> bucket = _buckets.get(key);
+		if (bucket == null)
+			return;
+		for (int i = bucket.size(); i --> 0; )
+			if (bucket.get(i).container == container)
+				bucket.remove(i);
+		if (bucket.isEmpty())
+			_buckets.remove(key);
+	}
+
+	public void clear()
+	{
+		_buckets.clear();
+		_maxExtent = 0;
+	}
+
+	public int size()
+	{
+		int r = 0;
+		for (List<Entry> bucket : _buckets.valueCollection())
+			r += bucket.size();
+		return r;
+	}
+
+	/**
+	 * Fills <tt>out</tt> with every area within <tt>range</tt> blocks of the viewer, rebuilding any whose
+	 * machine has recalculated its area since the last frame.
+	 *
+	 * @param camera If not null, areas outside of it are left out as well.
+	 */
+	public void collect(double x, double y, double z, double range, ICamera camera, List<Entry> out)
+	{
+		out.clear();
+		double rangeSq = range * range;
+		int reach = (int)Math.ceil(range) + _maxExtent;
+		int minCX = ((int)Math.floor(x) - reach) >> 4, maxCX = ((int)Math.floor(x) + reach) >> 4;
+		int minCZ = ((int)Math.floor(z) - reach) >> 4, maxCZ = ((int)Math.floor(z) + reach) >> 4;
+
+		if ((long)(maxCX - minCX + 1) * (maxCZ - minCZ + 1) > _buckets.size())
+		{
+			for (TLongObjectIterator<List<Entry>> i = _buckets.iterator(); i.hasNext(); )
+			{
+				i.advance();
+				if (collect(i.value(), minCX, maxCX, minCZ, maxCZ, x, y, z, rangeSq, camera, out))
+					i.remove();
+			}
+		}
+		else
+		{
+			for (int cX = minCX; cX <= maxCX; ++cX)
+				for (int cZ = minCZ; cZ <= maxCZ; ++cZ)
+				{
+					long key = key(cX, cZ);
+					List<Entry> bucket = _buckets.get(key);
+					if (bucket != null && collect(bucket, minCX, maxCX, minCZ, maxCZ, x, y, z, rangeSq, camera, out))
+						_buckets.remove(key);
+				}
+		}
+	}
+
+	/**
+	 * @return True if pruning broken machines left <tt>bucket</tt> empty.
+	 */
+	private boolean collect(List<Entry> bucket, int minCX, int maxCX, int minCZ, int maxCZ,
+			double x, double y, double z, double rangeSq, ICamera camera, List<Entry> out)
+	{
+		for (int i = bucket.size(); i --> 0; )
+		{
+			Entry entry = bucket.get(i);
+			TileEntity te = (TileEntity)entry.container;
+			if (te.isInvalid())
+			{
+				// broken machines are never removed otherwise
+				bucket.remove(i);
+				continue;
+			}
+			int cX = te.xCoord >> 4, cZ = te.zCoord >> 4;
+			if (cX < minCX | cX > maxCX | cZ < minCZ | cZ > maxCZ)
+				continue;
+
+			if (entry.update())
+				_maxExtent = Math.max(_maxExtent, entry.extent);
+			if (entry.distanceSq(x, y, z) > rangeSq)
+				continue;
+			if (camera != null && !camera.isBoundingBoxInFrustum(entry.bounds))
+				continue;
+			out.add(entry);
+		}
+		return bucket.isEmpty();
+	}
+
+	public static float colorFromCoord(int c, long h)
+	{
+		h = (h * c) + 0xBA;
+		h ^= (h >>> 20) ^ (h >>> 12);
+		h ^= (h >>> 7) ^ (h >>> 4);
+		return ((h & 255) / 319f) + 0.1f; // odd values bound to 0.1 <= x < 0.9
+	}
+
+	public static final class Entry
+	{
+		public final IHarvestAreaContainer container;
+		/**
+		 * Six quads, inset slightly so they don't z-fight with the blocks on the edge of the area.
+		 */
+		public final double[] vertices = new double[6 * 4 * 3];
+		public float red, green, blue;
+		public AxisAlignedBB bounds;
+		int extent;
+		private Area _area;
+
+		Entry(IHarvestAreaContainer container)
+		{
+			this.container = container;
+		}
+
+		/**
+		 * @return True if the geometry was rebuilt.
+		 */
+		boolean update()
+		{
+			Area area = container.getHAM().getHarvestArea();
+			if (area == _area)
+				return false;
+			_area = area;
+			build(area.xMin, area.yMin, area.zMin, area.xMax + 1, area.yMax + 1, area.zMax + 1);
+
+			TileEntity te = (TileEntity)container;
+			extent = Math.max(Math.max(te.xCoord - area.xMin, area.xMax + 1 - te.xCoord),
+					Math.max(te.zCoord - area.zMin, area.zMax + 1 - te.zCoord));
+			red = colorFromCoord(container.getHAM().getOriginX(), 0xF8525888);
+			green = colorFromCoord(container.getHAM().getOriginY(), 0x85BDBD8C);
+			blue = colorFromCoord(container.getHAM().getOriginZ(), 0x997696BF);
+			return true;
+		}
+
+		void build(double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+		{
+			bounds = AxisAlignedBB.getBoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+			minX += EPSILON; minY += EPSILON; minZ += EPSILON;
+			maxX -= EPSILON; maxY -= EPSILON; maxZ -= EPSILON;
+			double[] v = vertices;
+			int i = 0;
+			// same winding as MineFactoryReloadedClient.renderAABB
+			i = quad(v, i, minX, maxY, minZ, maxX, maxY, minZ, maxX, minY, minZ, minX, minY, minZ);
+			i = quad(v, i, minX, minY, maxZ, maxX, minY, maxZ, maxX, maxY, maxZ, minX, maxY, maxZ);
+			i = quad(v, i, minX, minY, minZ, maxX, minY, minZ, maxX, minY, maxZ, minX, minY, maxZ);
+			i = quad(v, i, minX, maxY, maxZ, maxX, maxY, maxZ, maxX, maxY, minZ, minX, maxY, minZ);
+			i = quad(v, i, minX, minY, maxZ, minX, maxY, maxZ, minX, maxY, minZ, minX, minY, minZ);
+			i = quad(v, i, maxX, minY, minZ, maxX, maxY, minZ, maxX, maxY, maxZ, maxX, minY, maxZ);
+		}
+
+		private static int quad(double[] v, int i, double... corners)
+		{
+			System.arraycopy(corners, 0, v, i, 12);
+			return i + 12;
+		}
+
+		double distanceSq(double x, double y, double z)
+		{
+			AxisAlignedBB bb = bounds;
+			double dx = x < bb.minX ? bb.minX - x : x > bb.maxX ? x - bb.maxX : 0;
+			double dy = y < bb.minY ? bb.minY - y : y > bb.maxY ? y - bb.maxY : 0;
+			double dz = z < bb.minZ ? bb.minZ - z : z > bb.maxZ ? z - bb.maxZ : 0;
+			return dx * dx + dy * dy + dz * dz;
+		}
+	}
+}
@@ -25,6 +25,9 @@ public class RedNetHistorianRenderer extends TileEntitySpecialRenderer implement
 	private RedNetHistorianModel _model;
 	private static final double _renderMin = 1.0/16.0;
 	private static final double _renderMax = 15.0/16.0;
+	private final int[] _min = new int[TileEntityRedNetHistorian.HISTORY_LENGTH];
+	private final int[] _max = new int[TileEntityRedNetHistorian.HISTORY_LENGTH];
+	private final int[] _avg = new int[TileEntityRedNetHistorian.HISTORY_LENGTH];
 	
 	public RedNetHistorianRenderer()
 	{
@@ -74,60 +77,51 @@ public class RedNetHistorianRenderer extends TileEntitySpecialRenderer implement
 		t.startDrawing(GL11.GL_LINES);
 		GL11.glLineWidth(2.0F);
 		
-		Integer[] values = historian.getValues();
-		GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
+		int[] min = _min, max = _max, avg = _avg;
+		int length = min.length;
+		int count = historian.getSeries(min, max, avg);
 		
-		int yMin = Integer.MAX_VALUE;
-		int yMax = Integer.MIN_VALUE;
+		int yMin = 0;
+		int yMax = 15;
 		
-		for(int i = 0; i < values.length; i++)
+		for(int i = length - count; i < length; i++)
 		{
-			Integer v = values[i];
-			if(v == null)
+			if(max[i] > yMax)
 			{
-				continue;
+				yMax = max[i];
 			}
-			if(v > yMax)
+			if(min[i] < yMin)
 			{
-				yMax = v;
-			}
-			if(v < yMin)
-			{
-				yMin = v;
+				yMin = min[i];
 			}
 		}
 		
-		yMax = Math.max(yMax, 15);
-		yMin = Math.min(yMin, 0);
+		double xScale = (14.0/16.0)/length;
+		double yScale = (_renderMax - _renderMin) / (yMax - yMin);
 		
-		Integer lastValue = null;
-		int lastX = 0;
-		for(int i = 1; i < values.length; i++)
+		t.setColorRGBA_F(0.5F, 0.5F, 0.5F, 1.0F);
+		for(int i = length - count; i < length; i++)
 		{
-			if(values[i] == null)
+			if(max[i] != min[i])
 			{
-				continue;
-			}
-			if(lastValue == null)
-			{
-				lastValue = values[i];
-				lastX = i;
-			}
-			else
-			{
-				double x1 = (14.0/16.0)/values.length * lastX + (1.0/16.0);
-				double x2 = (14.0/16.0)/values.length * (i) + (1.0/16.0);
-				double y1 = (values[i - 1] - yMin) * (_renderMax - _renderMin) / (yMax - yMin) + _renderMin;
-				double y2 = (values[i] - yMin) * (_renderMax - _renderMin) / (yMax - yMin) + _renderMin;
-				
-				t.addVertex(x1, y1, 0.253);
-				t.addVertex(x2, y2, 0.253);
-				
-				lastValue = values[i];
-				lastX = i;
+				double x1 = xScale * i + (1.0/16.0);
+				t.addVertex(x1, (min[i] - yMin) * yScale + _renderMin, 0.253);
+				t.addVertex(x1, (max[i] - yMin) * yScale + _renderMin, 0.253);
 			}
 		}
 		
+		t.setColorRGBA_F(1.0F, 1.0F, 1.0F, 1.0F);
+		for(int i = length - count + 1; i < length; i++)
+		{
+			double x1 = xScale * (i - 1) + (1.0/16.0);
+			double x2 = xScale * i + (1.0/16.0);
+			double y1 = (avg[i - 1] - yMin) * yScale + _renderMin;
+			double y2 = (avg[i] - yMin) * yScale + _renderMin;
+			
+			t.addVertex(x1, y1, 0.253);
+			t.addVertex(x2, y2, 0.253);
+		}
+		
 		t.draw();
 
 		GL11.glEnable(GL11.GL_LIGHTING);
@@ -15,6 +15,7 @@ public class MFRConfig
 	// client config
 	public static Property spyglassRange;
 	public static Property brightRednetBand;
+	public static Property areaOverlayRange;
 	public static boolean TESRCables;
 
 	// common config
@@ -36,6 +37,9 @@ public class MFRConfig
 	public static Property fruitTreeSearchMaxVertical;
 	public static Property fruitTreeSearchMaxHorizontal;
 	public static Property breederShutdownThreshold;
+	public static Property breederBatchSize;
+	public static Property grinderBatchSize;
+	public static Property smasherBulk;
 	public static Property autospawnerCostStandard;
 	public static Property autospawnerCostExact;
 	public static Property laserdrillCost;
@@ -115,6 +119,8 @@ public class MFRConfig
 		spyglassRange.comment = "The maximum number of blocks the spyglass and ruler can look to find something. This calculation is performed only on the client side.";
 		brightRednetBand = c.get(CATEGORY_GENERAL, "BrightRedNetColors", false);
 		brightRednetBand.comment = "If true, RedNet color bands will always be bright.";
+		areaOverlayRange = c.get(CATEGORY_GENERAL, "HarvestAreaOverlayRange", 128);
+		areaOverlayRange.comment = "The maximum distance in blocks at which machine work areas are drawn while holding the hammer.";
 		TESRCables = !c.get(CATEGORY_GENERAL, "DisableRedNetFramerateStabilization", false,
 				"Set to true to disable RedNet cables switching to TESRs when they detect " +
 				"that they are updating too rapidly.").getBoolean(false);
@@ -302,6 +308,12 @@ public class MFRConfig
 		spawnerCustomization.setComment("Custom base XP costs for entities. format: I:<entityid> = #. e.g.:\n"
 									+ "I:VillagerGolem = 25\nI:Slime = 50");
 
+		grinderBatchSize = c.get("Machine." + Machine.Grinder.getName(), "BatchSize", 1);
+		grinderBatchSize.comment = "The maximum number of mobs the grinder will attack each time it activates. Each mob costs a full activation's energy.";
+
+		smasherBulk = c.get("Machine." + Machine.BlockSmasher.getName(), "Bulk", false);
+		smasherBulk.comment = "If true, the block smasher will smash as much of its input stack at once as its output slot, energy and essence allow, for blocks that always drop the same thing. Each block still costs the same energy and essence.";
+
 		harvesterSkip = c.get("Machine." + Machine.Harvester.getName(), "SkipWork", false).setRequiresMcRestart(true);
 		harvesterSkip.comment = "If true, the harvester will skip scanning some bocks when filled with sludge";
 
@@ -313,6 +325,8 @@ public class MFRConfig
 
 		breederShutdownThreshold = c.get("Machine." + Machine.Breeder.getName(), "ShutdownThreshold", 50).setRequiresMcRestart(true);
 		breederShutdownThreshold.comment = "If the number of entities in the breeder's target area exceeds this value, the breeder will cease operating. This is provided to control server lag.";
+		breederBatchSize = c.get("Machine." + Machine.Breeder.getName(), "BatchSize", 1);
+		breederBatchSize.comment = "The maximum number of animals the breeder will feed each time it activates. Each animal costs a full activation's energy.";
 
 		enableBonemealFertilizing = c.get("Machine." + Machine.Fertilizer.getName(), "EnableBonemeal", false).setRequiresMcRestart(true);
 		enableBonemealFertilizing.comment = "If true, the fertilizer will use bonemeal as well as MFR fertilizer. Provided for those who want a less work-intensive farm.";
@@ -330,17 +330,8 @@ implements IRotateableTile, IInventoryConnection, IPortableData, IHarvestAreaCon
 			_isActive = data.getBoolean("a");
 			if (_prevActive != _isActive)
 				worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
-			if (_lastActive < 0 && hasHAM())
-			{
-				Packets.sendToServer(Packets.HAMUpdate, this);
-			}
 			_lastActive = 5;
 			break;
-		case 255:
-			if (hasHAM()) {
-				getHAM().setUpgradeLevel(data.getInteger("_upgradeLevel"));
-			}
-			break;
 		}
 	}
 
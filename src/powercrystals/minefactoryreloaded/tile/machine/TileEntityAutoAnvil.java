@@ -18,9 +18,9 @@ import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.event.AnvilUpdateEvent;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.gui.client.GuiAutoAnvil;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
@@ -41,7 +41,7 @@ public class TileEntityAutoAnvil extends TileEntityFactoryPowered implements ITa
 	{
 		super(Machine.AutoAnvil);
 		setManageSolids(true);
-		_tanks[0].setLock(FluidRegistry.getFluid("mobessence"));
+		_tanks[0].setLock(FluidHandle.mobEssence.getFluid());
 	}
 
 	@Override
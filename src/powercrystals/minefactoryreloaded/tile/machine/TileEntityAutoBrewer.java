@@ -5,7 +5,11 @@ import cofh.lib.util.helpers.ItemHelper;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.init.Items;
@@ -14,9 +18,9 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.potion.PotionHelper;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.core.UtilInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiAutoBrewer;
@@ -33,7 +37,7 @@ public class TileEntityAutoBrewer extends TileEntityFactoryPowered implements IT
 	{
 		super(Machine.AutoBrewer);
 		setManageSolids(true);
-		_tanks[0].setLock(FluidRegistry.getFluid("water"));
+		_tanks[0].setLock(FluidHandle.water.getFluid());
 	}
 
 	private int getProcessSlot(int row) { return row * 5; }
@@ -83,7 +87,7 @@ public class TileEntityAutoBrewer extends TileEntityFactoryPowered implements IT
 				if (_inventory[31] != null && _inventory[processSlot] == null && _inventory[templateSlot] != null)
 				{
 					if (row == 0 || _inventory[getTemplateSlot(row - 1)] == null)
-						if (getPotionResult(0, _inventory[templateSlot]) != 0)
+						if (getBrewResult(0, _inventory[templateSlot]).potion != 0)
 							if (drain(_tanks[0], 250, false) == 250)
 							{
 								drain(_tanks[0], 250, true);
@@ -144,22 +148,16 @@ public class TileEntityAutoBrewer extends TileEntityFactoryPowered implements IT
 					}
 
 					int existingPotion = current.getItemDamage();
-					int newPotion = this.getPotionResult(existingPotion, ingredient);
-					@SuppressWarnings("unchecked") List<Integer> existingEffects = Items.potionitem.getEffects(existingPotion);
-					@SuppressWarnings("unchecked") List<Integer> newEffects = Items.potionitem.getEffects(newPotion);
+					BrewResult result = getBrewResult(existingPotion, ingredient);
+					int newPotion = result.potion;
 
-					if((existingPotion <= 0 || existingEffects != newEffects) &&
-							(existingEffects == null || !existingEffects.equals(newEffects) && newEffects != null))
+					if (result.changesEffects | result.makesSplash)
 					{
 						if (existingPotion != newPotion)
 						{
 							current.setItemDamage(newPotion);
 						}
 					}
-					else if(!ItemPotion.isSplash(existingPotion) && ItemPotion.isSplash(newPotion))
-					{
-						current.setItemDamage(newPotion);
-					}
 
 					_inventory[getProcessSlot(row + 1)] = current;
 					_inventory[getProcessSlot(row)] = null;
@@ -221,35 +219,60 @@ public class TileEntityAutoBrewer extends TileEntityFactoryPowered implements IT
 		if (_inventory[getProcessSlot(row)] != null &&
 				_inventory[getProcessSlot(row)].getItem() instanceof ItemPotion)
 		{
-			int existingPotion = _inventory[getProcessSlot(row)].getItemDamage();
-			int newPotion = this.getPotionResult(existingPotion, ingredient);
-
-			if (!ItemPotion.isSplash(existingPotion) && ItemPotion.isSplash(newPotion))
-			{
-				return true;
-			}
-
-			@SuppressWarnings("unchecked") List<Integer> existingEffects = Items.potionitem.getEffects(existingPotion);
-			@SuppressWarnings("unchecked") List<Integer> newEffects = Items.potionitem.getEffects(newPotion);
+			BrewResult result = getBrewResult(_inventory[getProcessSlot(row)].getItemDamage(), ingredient);
 
-			if ((existingPotion <= 0 || existingEffects != newEffects) &&
-					(existingEffects == null || !existingEffects.equals(newEffects) && newEffects != null))
-			{
-				return true; //existingPotion != newPotion;
-				// push potions without effects that have been previously brewed on through
-			}
+			// push potions without effects that have been previously brewed on through
+			return result.changesEffects | result.makesSplash;
 		}
 
 		return false;
 	}
 
-	private int getPotionResult(int existingPotion, ItemStack ingredient)
+	private static Map<String, TIntObjectHashMap<BrewResult>> _brewResults =
+			new HashMap<String, TIntObjectHashMap<BrewResult>>();
+
+	private static BrewResult getBrewResult(int existingPotion, ItemStack ingredient)
+	{
+		String effect = null;
+		if (ingredient != null && ingredient.getItem().isPotionIngredient(ingredient))
+		{
+			effect = ingredient.getItem().getPotionEffect(ingredient);
+		}
+		TIntObjectHashMap<BrewResult> results = _brewResults.get(effect);
+		if (results == null)
+		{
+			results = new TIntObjectHashMap<BrewResult>();
+			_brewResults.put(effect, results);
+		}
+		BrewResult result = results.get(existingPotion);
+		if (result == null)
+		{
+			result = new BrewResult(existingPotion, effect);
+			results.put(existingPotion, result);
+		}
+		return result;
+	}
+
+	/**
+	 * The outcome of brewing one potion with one ingredient; brewing is a pure function of the potion's
+	 * damage and the ingredient's effect string, so these are shared by every brewer.
+	 */
+	private static final class BrewResult
 	{
-		if (ingredient == null || !ingredient.getItem().isPotionIngredient(ingredient))
+		final int potion;
+		final boolean changesEffects;
+		final boolean makesSplash;
+
+		@SuppressWarnings("unchecked")
+		BrewResult(int existingPotion, String effect)
 		{
-			return existingPotion;
+			potion = effect == null ? existingPotion : PotionHelper.applyIngredient(existingPotion, effect);
+			List<Integer> existingEffects = Items.potionitem.getEffects(existingPotion);
+			List<Integer> newEffects = Items.potionitem.getEffects(potion);
+			changesEffects = (existingPotion <= 0 || existingEffects != newEffects) &&
+					(existingEffects == null || !existingEffects.equals(newEffects) && newEffects != null);
+			makesSplash = !ItemPotion.isSplash(existingPotion) && ItemPotion.isSplash(potion);
 		}
-		return PotionHelper.applyIngredient(existingPotion, ingredient.getItem().getPotionEffect(ingredient));
 	}
 
 	@Override
@@ -5,16 +5,16 @@ import cofh.core.util.fluid.FluidTankAdv;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 
 public class TileEntityAutoDisenchanterFluid extends TileEntityAutoDisenchanter implements ITankContainerBucketable
 {
 	public TileEntityAutoDisenchanterFluid()
 	{
-		_tanks[0].setLock(FluidRegistry.getFluid("mobessence"));
+		_tanks[0].setLock(FluidHandle.mobEssence.getFluid());
 	}
 
 	@Override
@@ -15,17 +15,18 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
 import powercrystals.minefactoryreloaded.MFRRegistry;
 import powercrystals.minefactoryreloaded.api.IMobSpawnHandler;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.core.UtilInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiAutoSpawner;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
 import powercrystals.minefactoryreloaded.gui.container.ContainerAutoSpawner;
 import powercrystals.minefactoryreloaded.item.ItemSafariNet;
+import powercrystals.minefactoryreloaded.item.SafariNetCapture;
 import powercrystals.minefactoryreloaded.setup.MFRConfig;
 import powercrystals.minefactoryreloaded.setup.Machine;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryPowered;
@@ -45,7 +46,7 @@ public class TileEntityAutoSpawner extends TileEntityFactoryPowered implements I
 		setManageSolids(true);
 		createHAM(this, _spawnRange, 0, 2, false);
 		_areaManager.setOverrideDirection(ForgeDirection.UP);
-		_tanks[0].setLock(FluidRegistry.getFluid("mobessence"));
+		_tanks[0].setLock(FluidHandle.mobEssence.getFluid());
 	}
 
 	public boolean getSpawnExact()
@@ -114,35 +115,19 @@ public class TileEntityAutoSpawner extends TileEntityFactoryPowered implements I
 			setIdleTicks(getIdleTicksMax());
 			return false;
 		}
-		NBTTagCompound itemTag = item.getTagCompound();
 
 		if (_spawn == null)
 		{
-			String entityID = itemTag.getString("id");
-			boolean isBlackListed = MFRRegistry.getAutoSpawnerBlacklist().contains(entityID);
-			blackList: if (!isBlackListed)
-			{
-				Class<?> e = (Class<?>)EntityList.stringToClassMapping.get(entityID);
-				if (e == null)
-				{
-					isBlackListed = true;
-					break blackList;
-				}
-				for (Class<?> t : MFRRegistry.getAutoSpawnerClassBlacklist())
-				{
-					if (t.isAssignableFrom(e))
-					{
-						isBlackListed = true;
-						break blackList;
-					}
-				}
-			}
-			if (isBlackListed)
+			SafariNetCapture capture = SafariNetCapture.get(item);
+			if (capture == null || capture.entityClass == null ||
+					MFRRegistry.getAutoSpawnerBlacklist().contains(capture.entityId) ||
+					MFRRegistry.getEntityClassInfo(capture.entityClass).autoSpawnerBlacklisted)
 			{
 				setWorkDone(0);
 				return false;
 			}
 
+			String entityID = capture.entityId;
 			Entity spawnedEntity = _spawn = EntityList.createEntityByName(entityID, worldObj);
 
 			if (!(spawnedEntity instanceof EntityLivingBase))
@@ -153,9 +138,9 @@ public class TileEntityAutoSpawner extends TileEntityFactoryPowered implements I
 
 			EntityLivingBase spawnedLiving = (EntityLivingBase)spawnedEntity;
 
-			if (_spawnExact)
+			if (_spawnExact && item.getTagCompound() != null)
 			{
-				NBTTagCompound tag = (NBTTagCompound)itemTag.copy();
+				NBTTagCompound tag = (NBTTagCompound)item.getTagCompound().copy();
 				spawnedLiving.readEntityFromNBT(tag);
 				for (int i = 0; i < 5; ++i)
 				{
@@ -164,7 +149,7 @@ public class TileEntityAutoSpawner extends TileEntityFactoryPowered implements I
 				}
 			}
 
-			IMobSpawnHandler handler = MFRRegistry.getSpawnHandlers().get(spawnedLiving.getClass());
+			IMobSpawnHandler handler = MFRRegistry.getEntityClassInfo(spawnedLiving.getClass()).spawnHandler;
 
 			if (!_spawnExact)
 			{
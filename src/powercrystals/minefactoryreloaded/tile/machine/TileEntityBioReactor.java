@@ -13,11 +13,11 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
 import powercrystals.minefactoryreloaded.MFRRegistry;
 import powercrystals.minefactoryreloaded.api.IFactoryPlantable;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.core.UtilInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiBioReactor;
@@ -36,6 +36,13 @@ public class TileEntityBioReactor extends TileEntityFactoryInventory implements
 	// start at 0 for 0 slots; increase by 5, then an additional 10 each time (upward-sloping curve)
 	private static final int[] _outputValues = { 0, 5, 25, 70, 150, 275, 455, 700, 1020, 1425 };
 
+	// burning is settled in closed form at most this many ticks apart, or sooner when the inventory changes
+	private static final int _settleInterval = 20;
+
+	private boolean _sortNeeded = true;
+	private int _occupiedSlots;
+	private int _pendingTicks;
+
 	public TileEntityBioReactor()
 	{
 		super(Machine.BioReactor);
@@ -59,16 +66,7 @@ public class TileEntityBioReactor extends TileEntityFactoryInventory implements
 
 	public int getOutputValue()
 	{
-		int occupiedSlots = 0;
-		for(int i = 9; i < 18; i++)
-		{
-			if(_inventory[i] != null)
-			{
-				occupiedSlots++;
-			}
-		}
-
-		return _outputValues[occupiedSlots];
+		return _outputValues[_occupiedSlots];
 	}
 
 	public int getOutputValueMax()
@@ -76,6 +74,13 @@ public class TileEntityBioReactor extends TileEntityFactoryInventory implements
 		return _outputValues[9];
 	}
 
+	@Override
+	protected void onFactoryInventoryChanged()
+	{
+		_sortNeeded = true;
+		countOccupiedSlots();
+	}
+
 	@Override
 	public void updateEntity()
 	{
@@ -83,51 +88,134 @@ public class TileEntityBioReactor extends TileEntityFactoryInventory implements
 
 		if (!worldObj.isRemote)
 		{
-			Map<Item, IFactoryPlantable> plantables = MFRRegistry.getPlantables();
-			for (int i = 0; i < 9; i++)
+			++_pendingTicks;
+			if (_sortNeeded)
 			{
-				ItemStack item = _inventory[i];
-				if (item == null)
+				settle(_pendingTicks);
+				_pendingTicks = 0;
+				sortInputs();
+			}
+			else if (_pendingTicks >= _settleInterval)
+			{
+				settle(_pendingTicks);
+				_pendingTicks = 0;
+			}
+		}
+	}
+
+	private void sortInputs()
+	{
+		_sortNeeded = false;
+		Map<Item, IFactoryPlantable> plantables = MFRRegistry.getPlantables();
+		for (int i = 0; i < 9; i++)
+		{
+			ItemStack item = _inventory[i];
+			if (item == null)
+				continue;
+			IFactoryPlantable plantable = plantables.get(item.getItem());
+			if (plantable != null && plantable.canBePlanted(item, true))
+			{
+				int targetSlot = findMatchingSlot(_inventory[i]);
+				if (targetSlot < 0)
 					continue;
-				if (plantables.containsKey(item.getItem()) &&
-						plantables.get(item.getItem()).canBePlanted(item, true))
-				{
-					int targetSlot = findMatchingSlot(_inventory[i]);
-					if (targetSlot < 0)
-						continue;
 
-					if (_inventory[targetSlot] == null)
-					{
-						_inventory[targetSlot] = _inventory[i];
+				if (_inventory[targetSlot] == null)
+				{
+					_inventory[targetSlot] = _inventory[i];
+					_inventory[i] = null;
+				}
+				else
+				{
+					UtilInventory.mergeStacks(_inventory[targetSlot], _inventory[i]);
+					if (_inventory[i].stackSize <= 0)
 						_inventory[i] = null;
-					}
-					else
-					{
-						UtilInventory.mergeStacks(_inventory[targetSlot], _inventory[i]);
-						if (_inventory[i].stackSize <= 0)
-							_inventory[i] = null;
-					}
 				}
 			}
+		}
+		countOccupiedSlots();
+	}
 
-			if (_rednetState != 0 || CoreUtils.isRedstonePowered(this))
-				return;
+	private void countOccupiedSlots()
+	{
+		int occupiedSlots = 0;
+		for (int i = 9; i < 18; i++)
+			if (_inventory[i] != null)
+				occupiedSlots++;
+		_occupiedSlots = occupiedSlots;
+	}
 
-			int newBurn = getOutputValue();
-			if (_burnTimeMax - _burnTime >= newBurn)
+	/**
+	 * Advances burning by <tt>ticks</tt> ticks at once. Equivalent to the old per-tick loop (add burn time and
+	 * consume one of each item whenever it fits, then burn one tick into the tank), except that redstone and
+	 * the tank's free space are sampled once per call.
+	 */
+	private void settle(int ticks)
+	{
+		if (_rednetState != 0 || CoreUtils.isRedstonePowered(this))
+			return;
+
+		int burn = _burnTime, produced = 0;
+		int space = _tanks[0].getCapacity() - _tanks[0].getFluidAmount();
+		boolean consumed = false;
+		while (ticks > 0)
+		{
+			int value = _outputValues[_occupiedSlots];
+			if (value > 0 && _burnTimeMax - burn >= value)
 			{
-				_burnTime += newBurn;
-				for (int i = 9; i < 18; i++)
-					if (_inventory[i] != null)
-						decrStackSize(i, 1);
+				burn += value;
+				consumeItems();
+				consumed = true;
+				value = _outputValues[_occupiedSlots];
 			}
 
-			if (_burnTime > 0 && _tanks[0].getFluidAmount() <= _tanks[0].getCapacity() - _bioFuelPerTick)
+			// ticks until burn time could be added again
+			int run = ticks;
+			if (value > 0)
+				run = Math.min(run, Math.max(value - (_burnTimeMax - burn), 1));
+
+			int burning = 0;
+			if (burn > 0)
 			{
-				_burnTime -= _burnTimeDecreasePerTick;
-				_tanks[0].fill(FluidRegistry.getFluidStack("biofuel", _bioFuelPerTick), true);
+				burning = (burn + _burnTimeDecreasePerTick - 1) / _burnTimeDecreasePerTick;
+				burning = Math.min(run, Math.min(burning, (space - produced) / _bioFuelPerTick));
+				burn -= burning * _burnTimeDecreasePerTick;
+				produced += burning * _bioFuelPerTick;
 			}
+			ticks -= run;
+
+			if (burning == 0 && (value == 0 || _burnTimeMax - burn < value))
+				break; // stalled for the rest of this call
 		}
+
+		_burnTime = burn;
+		if (produced > 0)
+			FluidHandle.biofuel.fill(_tanks[0], produced, true);
+		if (consumed)
+		{
+			internalChange = true;
+			markDirty();
+			internalChange = false;
+		}
+	}
+
+	private void consumeItems()
+	{
+		for (int i = 9; i < 18; i++)
+		{
+			ItemStack item = _inventory[i];
+			if (item != null && --item.stackSize <= 0)
+			{
+				_inventory[i] = null;
+				--_occupiedSlots;
+			}
+		}
+		// inputs that did not fit may fit now
+		for (int i = 0; i < 9; i++)
+			if (_inventory[i] != null)
+			{
+				_sortNeeded = true;
+				break;
+			}
 	}
 
 	private int findMatchingSlot(ItemStack s)
@@ -233,6 +321,7 @@ public class TileEntityBioReactor extends TileEntityFactoryInventory implements
 	{
 		super.readFromNBT(nbttagcompound);
 		_burnTime = nbttagcompound.getInteger("burnTime");
+		countOccupiedSlots();
 	}
 
 	@Override
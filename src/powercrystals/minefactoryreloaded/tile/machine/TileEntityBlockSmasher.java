@@ -17,14 +17,15 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.core.UtilInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiBlockSmasher;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
 import powercrystals.minefactoryreloaded.gui.container.ContainerBlockSmasher;
+import powercrystals.minefactoryreloaded.setup.MFRConfig;
 import powercrystals.minefactoryreloaded.setup.Machine;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryPowered;
 import powercrystals.minefactoryreloaded.world.SmashingWorld;
@@ -36,6 +37,7 @@ public class TileEntityBlockSmasher extends TileEntityFactoryPowered implements
 
 	private ItemStack _lastInput;
 	private List<ItemStack> _lastOutput;
+	private boolean _lastOutputExact;
 
 	private SmashingWorld _smashingWorld;
 	private boolean _shouldWork = true;
@@ -44,7 +46,7 @@ public class TileEntityBlockSmasher extends TileEntityFactoryPowered implements
 	{
 		super(Machine.BlockSmasher);
 		setManageSolids(true);
-		_tanks[0].setLock(FluidRegistry.getFluid("mobessence"));
+		_tanks[0].setLock(FluidHandle.mobEssence.getFluid());
 	}
 
 	@Override
@@ -111,9 +113,11 @@ public class TileEntityBlockSmasher extends TileEntityFactoryPowered implements
 
 		if(getWorkDone() >= getWorkMax())
 		{
+			int count = 1;
 			if (_shouldWork)
 			{
-				_inventory[0].stackSize--;
+				count += getBulkCount(output);
+				_inventory[0].stackSize -= count;
 				if(_inventory[0].stackSize == 0)
 				{
 					_inventory[0] = null;
@@ -123,10 +127,11 @@ public class TileEntityBlockSmasher extends TileEntityFactoryPowered implements
 			if(_inventory[1] == null)
 			{
 				_inventory[1] = output.copy();
+				_inventory[1].stackSize *= count;
 			}
 			else
 			{
-				_inventory[1].stackSize += output.stackSize;
+				_inventory[1].stackSize += output.stackSize * count;
 			}
 			_lastOutput.remove(output);
 			if (_lastOutput.size() == 0)
@@ -145,6 +150,43 @@ public class TileEntityBlockSmasher extends TileEntityFactoryPowered implements
 		return true;
 	}
 
+	/**
+	 * In bulk mode, pays for and returns how many more of the input stack can be smashed along with the current one.
+	 */
+	private int getBulkCount(ItemStack output)
+	{
+		if (!_lastOutputExact || _lastOutput.size() != 1 || !MFRConfig.smasherBulk.getBoolean(false))
+		{
+			return 0;
+		}
+		ItemStack outSlot = _inventory[1];
+		int space = outSlot == null ? output.getMaxStackSize() : outSlot.getMaxStackSize() - outSlot.stackSize;
+		int count = Math.min(_inventory[0].stackSize, space / output.stackSize) - 1;
+
+		int work = getWorkMax();
+		int energy = getActivationEnergy() * work;
+		if (energy > 0)
+		{
+			// this activation's own cost is drained by our caller
+			count = Math.min(count, (getEnergyStored() - getActivationEnergy()) / energy);
+		}
+		int essence = _fortune * work;
+		if (essence > 0)
+		{
+			count = Math.min(count, _tanks[0].getFluidAmount() / essence);
+		}
+		if (count <= 0)
+		{
+			return 0;
+		}
+		drainEnergy(energy * count);
+		if (essence > 0)
+		{
+			drain(_tanks[0], essence * count, true);
+		}
+		return count;
+	}
+
 	private static ItemStack getEqualStack(ItemStack a, List<ItemStack> b)
 	{
 		if (a != null & b != null && a.stackSize > 0 && b.size() > 0)
@@ -156,6 +198,7 @@ public class TileEntityBlockSmasher extends TileEntityFactoryPowered implements
 	@SuppressWarnings("unchecked")
 	private List<ItemStack> getOutput(ItemStack input)
 	{
+		_lastOutputExact = false;
 		if(!(input.getItem() instanceof ItemBlock))
 		{
 			return null;
@@ -168,9 +211,11 @@ public class TileEntityBlockSmasher extends TileEntityFactoryPowered implements
 		}
 
 		@SuppressWarnings("rawtypes")
-		ArrayList drops = _smashingWorld.smashBlock(input, b, block.getMetadata(input.getItemDamage()), _fortune);
+		int meta = block.getMetadata(input.getItemDamage());
+		ArrayList drops = _smashingWorld.smashBlock(input, b, meta, _fortune);
 		if (drops != null && drops.size() > 0)
 		{
+			_lastOutputExact = _smashingWorld.isExactResult(b, meta, _fortune);
 			return drops;
 		}
 		return null;
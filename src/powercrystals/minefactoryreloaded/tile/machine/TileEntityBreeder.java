@@ -4,8 +4,10 @@ import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import net.minecraft.entity.ai.EntityAIVillagerMate;
 import net.minecraft.entity.passive.EntityAnimal;
@@ -68,40 +70,52 @@ public class TileEntityBreeder extends TileEntityFactoryPowered
 			setIdleTicks(getIdleTicksMax());
 			return false;
 		}
-		ArrayList<Integer> doors = new ArrayList<Integer>();
 
-		for (int i = getSizeInventory(); i --> 0; )
+		int batch = Math.max(MFRConfig.breederBatchSize.getInt(), 1);
+		int bred = 0, doors = 0;
+
+		// animals that can breed, grouped by type so each food is only offered to one of each
+		Map<Class<?>, List<EntityAnimal>> herds = new HashMap<Class<?>, List<EntityAnimal>>();
+		for (int j = 0, e = entities.size(); j < e; ++j)
+		{
+			EntityAnimal a = entities.get(j);
+			if (!a.isInLove() && a.getGrowingAge() == 0)
+			{
+				List<EntityAnimal> herd = herds.get(a.getClass());
+				if (herd == null)
+					herds.put(a.getClass(), herd = new ArrayList<EntityAnimal>());
+				herd.add(a);
+			}
+		}
+
+		slots: for (int i = getSizeInventory(); i --> 0; )
 		{
 			ItemStack item = _inventory[i];
 			if (item != null)
 			{
 				if (item.getItem().equals(Items.wooden_door))
 				{
-					doors.add(i);
+					doors |= 1 << i;
 				}
-				if (entities.size() == 0)
-					continue;
-				Iterator<EntityAnimal> iter = entities.iterator();
-				while (iter.hasNext())
+				for (List<EntityAnimal> herd : herds.values())
 				{
-					EntityAnimal a = iter.next();
-
-					if (!a.isInLove() && a.getGrowingAge() == 0)
+					if (herd.isEmpty() || !herd.get(0).isBreedingItem(item))
+						continue;
+					while (herd.size() > 0)
 					{
-						if (a.isBreedingItem(_inventory[i]))
-						{
-							a.func_146082_f(null);
-							decrStackSize(i, 1);
-							iter.remove();
-							return true;
-						}
-					} else
-						iter.remove();
+						if (bred >= batch || !canAffordAnother(bred))
+							break slots;
+						herd.remove(herd.size() - 1).func_146082_f(null);
+						++bred;
+						decrStackSize(i, 1);
+						if (_inventory[i] == null)
+							continue slots;
+					}
 				}
 			}
 		}
-		
-		if (doors.size() > 0)
+
+		if (bred == 0 && doors != 0)
 		{
 			List<EntityVillager> villagers = worldObj.getEntitiesWithinAABB(EntityVillager.class,
 					_areaManager.getHarvestArea().toAxisAlignedBB());
@@ -111,39 +125,48 @@ public class TileEntityBreeder extends TileEntityFactoryPowered
 				setIdleTicks(getIdleTicksMax());
 				return false;
 			}
-			if (villagers.size() != 0) for (int i : doors)
+			Iterator<EntityVillager> iter = villagers.iterator();
+			mating: for (int i = getSizeInventory(); i --> 0 && iter.hasNext(); )
 			{
-				ItemStack item = _inventory[i];
-				if (item != null)
+				if ((doors & (1 << i)) == 0)
+					continue;
+				while (iter.hasNext() && _inventory[i] != null)
 				{
-					if (villagers.size() == 0)
-						break;
-					Iterator<EntityVillager> iter = villagers.iterator();
-					while (iter.hasNext())
+					EntityVillager v = iter.next();
+					if (v.getGrowingAge() == 0 && !v.isMating())
 					{
-						EntityVillager v = iter.next();
-						if (v.getGrowingAge() == 0 && !v.isMating())
+						for (Object o : v.tasks.taskEntries)
 						{
-							for (Object o : v.tasks.taskEntries)
+							if (o instanceof EntityAIVillagerMate)
 							{
-								if (o instanceof EntityAIVillagerMate)
-								{
-									((EntityAIVillagerMate)o).startExecuting();
-									decrStackSize(i, 1);
-									iter.remove();
-									return true;
-								}
+								if (bred >= batch || !canAffordAnother(bred))
+									break mating;
+								((EntityAIVillagerMate)o).startExecuting();
+								++bred;
+								decrStackSize(i, 1);
+								break;
 							}
-						} else
-							iter.remove();
+						}
 					}
 				}
 			}
 		}
+
+		if (bred > 0)
+		{
+			// the first activation is paid for by our caller
+			drainEnergy(getActivationEnergy() * (bred - 1));
+			return true;
+		}
 		setIdleTicks(getIdleTicksMax());
 		return false;
 	}
 
+	private boolean canAffordAnother(int bred)
+	{
+		return getEnergyStored() >= getActivationEnergy() * (bred + 1);
+	}
+
 	@Override
 	public int getSizeInventory()
 	{
@@ -8,9 +8,9 @@ import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryPowered;
@@ -25,7 +25,7 @@ public class TileEntityComposter extends TileEntityFactoryPowered implements ITa
 	{
 		super(Machine.Composter);
 		setManageSolids(true);
-		_tanks[0].setLock(FluidRegistry.getFluid("sewage"));
+		_tanks[0].setLock(FluidHandle.sewage.getFluid());
 	}
 
 	@Override
@@ -1,15 +1,18 @@
 package powercrystals.minefactoryreloaded.tile.machine;
 
+import cofh.lib.util.position.Area;
 import cofh.lib.util.position.BlockPosition;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.InventoryPlayer;
-import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.util.ForgeDirection;
 
@@ -17,16 +20,31 @@ import powercrystals.minefactoryreloaded.MFRRegistry;
 import powercrystals.minefactoryreloaded.api.FertilizerType;
 import powercrystals.minefactoryreloaded.api.IFactoryFertilizable;
 import powercrystals.minefactoryreloaded.api.IFactoryFertilizer;
+import powercrystals.minefactoryreloaded.core.IBlockChangeWatcher;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiUpgradable;
 import powercrystals.minefactoryreloaded.gui.container.ContainerUpgradable;
+import powercrystals.minefactoryreloaded.net.BlockChangeTracker;
 import powercrystals.minefactoryreloaded.setup.MFRConfig;
 import powercrystals.minefactoryreloaded.setup.Machine;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryPowered;
 
-public class TileEntityFertilizer extends TileEntityFactoryPowered
+public class TileEntityFertilizer extends TileEntityFactoryPowered implements IBlockChangeWatcher
 {
+	private static final int CANDIDATES_PER_ACTIVATION = 16;
+	private static final int RESCAN_INTERVAL = 15;
+
 	private Random _rand;
+
+	// positions in the area that held something fertilizable when last seen, oldest first
+	private LinkedHashSet<Long> _candidates = new LinkedHashSet<Long>();
+	private Area _indexedArea;
+	private BlockChangeTracker.Watch _watch;
+	private int _idleActivations;
+
+	private IFactoryFertilizer[] _fertilizers = new IFactoryFertilizer[10];
+	private FertilizerType[] _fertilizerTypes = new FertilizerType[10];
+	private int _fertilizerSlot;
 	
 	public TileEntityFertilizer()
 	{
@@ -41,6 +59,7 @@ public class TileEntityFertilizer extends TileEntityFactoryPowered
 	protected void onFactoryInventoryChanged()
 	{
 		_areaManager.updateUpgradeLevel(_inventory[9]);
+		Arrays.fill(_fertilizerTypes, null);
 	}
 	
 	@Override
@@ -56,57 +75,150 @@ public class TileEntityFertilizer extends TileEntityFactoryPowered
 		return new ContainerUpgradable(this, inventoryPlayer);
 	}
 	
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		clearIndex();
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		clearIndex();
+	}
+
+	@Override
+	public boolean isNotValid()
+	{
+		return isInvalid();
+	}
+
+	@Override
+	public void onBlockChanged(int x, int y, int z)
+	{
+		if (MFRRegistry.getFertilizables().containsKey(worldObj.getBlock(x, y, z)))
+			_candidates.add(pack(x, y, z));
+	}
+
+	private void clearIndex()
+	{
+		if (_watch != null)
+			_watch.cancel();
+		_watch = null;
+		_indexedArea = null;
+		_candidates.clear();
+	}
+
+	private void rebuildIndex(Area area)
+	{
+		clearIndex();
+		Map<Block, IFactoryFertilizable> fertilizables = MFRRegistry.getFertilizables();
+		for (BlockPosition bp : area.getPositionsBottomFirst())
+			if (worldObj.blockExists(bp.x, bp.y, bp.z) && fertilizables.containsKey(worldObj.getBlock(bp.x, bp.y, bp.z)))
+				_candidates.add(pack(bp.x, bp.y, bp.z));
+		_watch = BlockChangeTracker.watch(worldObj, this, area);
+		_indexedArea = area;
+		_idleActivations = 0;
+	}
+
+	private static long pack(int x, int y, int z)
+	{
+		return ((long)x << 34) | ((long)(z & 0x3FFFFFF) << 8) | (y & 0xFF);
+	}
+
 	@Override
 	public boolean activateMachine()
 	{
-		BlockPosition bp = _areaManager.getNextBlock();
-		if (!worldObj.blockExists(bp.x, bp.y, bp.z))
-		{
-			setIdleTicks(getIdleTicksMax());
-			return false;
-		}
+		Area area = _areaManager.getHarvestArea();
+		if (area != _indexedArea || _idleActivations >= RESCAN_INTERVAL)
+			rebuildIndex(area);
 
-		Map<Block, IFactoryFertilizable> fertalizables = MFRRegistry.getFertilizables();
-		
-		Block target = worldObj.getBlock(bp.x, bp.y, bp.z);
-		if (!fertalizables.containsKey(target))
+		if (!hasFertilizer() || _candidates.isEmpty())
 		{
+			++_idleActivations;
 			setIdleTicks(getIdleTicksMax());
 			return false;
 		}
-		
-		IFactoryFertilizable fertilizable = fertalizables.get(target);
-		Map<Item, IFactoryFertilizer> fertilizers = MFRRegistry.getFertilizers();
-		for (int stackIndex = 0, e = getSizeInventory(); stackIndex < e; stackIndex++)
+
+		Map<Block, IFactoryFertilizable> fertilizables = MFRRegistry.getFertilizables();
+		for (int budget = CANDIDATES_PER_ACTIVATION; budget --> 0 && !_candidates.isEmpty(); )
 		{
-			ItemStack fertStack = getStackInSlot(stackIndex);
-			if (fertStack == null || !fertilizers.containsKey(fertStack.getItem()))
+			// fertilizing changes blocks, which feeds back into _candidates; don't hold an iterator across it
+			Iterator<Long> iter = _candidates.iterator();
+			long pos = iter.next();
+			iter.remove();
+			int x = (int)(pos >> 34), y = (int)(pos & 0xFF), z = (int)((pos << 30) >> 38);
+			if (!worldObj.blockExists(x, y, z))
 				continue;
 
-			IFactoryFertilizer fertilizer = fertilizers.get(fertStack.getItem());
-			FertilizerType type = fertilizer.getFertilizerType(fertStack);
+			IFactoryFertilizable fertilizable = fertilizables.get(worldObj.getBlock(x, y, z));
+			if (fertilizable != null && fertilize(fertilizable, x, y, z))
+			{
+				// it may still be fertilizable; check it again after the rest of the field
+				_candidates.add(pos);
+				_idleActivations = 0;
+				return true;
+			}
+		}
 
+		++_idleActivations;
+		setIdleTicks(getIdleTicksMax());
+		return false;
+	}
+
+	private boolean fertilize(IFactoryFertilizable fertilizable, int x, int y, int z)
+	{
+		for (int i = 0, e = _fertilizerTypes.length; i < e; i++)
+		{
+			int stackIndex = (_fertilizerSlot + i) % e;
+			FertilizerType type = getFertilizerType(stackIndex);
 			if (type == FertilizerType.None)
 				continue;
-			if (!fertilizable.canFertilize(worldObj, bp.x, bp.y, bp.z, type))
+			if (!fertilizable.canFertilize(worldObj, x, y, z, type))
 				continue;
 
-			if (fertilizable.fertilize(worldObj, _rand, bp.x, bp.y, bp.z, type))
+			if (fertilizable.fertilize(worldObj, _rand, x, y, z, type))
 			{
-				fertilizer.consume(fertStack);
+				ItemStack fertStack = getStackInSlot(stackIndex);
+				_fertilizers[stackIndex].consume(fertStack);
 				if (MFRConfig.playSounds.getBoolean(true)) // particles
-					worldObj.playAuxSFXAtEntity(null, 2005, bp.x, bp.y, bp.z, _rand.nextInt(10) + 5);
+					worldObj.playAuxSFXAtEntity(null, 2005, x, y, z, _rand.nextInt(10) + 5);
+				_fertilizerSlot = stackIndex;
 				if(fertStack.stackSize <= 0)
 					setInventorySlotContents(stackIndex, null);
 
 				return true;
 			}
 		}
-		
-		setIdleTicks(getIdleTicksMax());
 		return false;
 	}
-	
+
+	private boolean hasFertilizer()
+	{
+		for (int i = _fertilizerTypes.length; i --> 0; )
+			if (getFertilizerType(i) != FertilizerType.None)
+				return true;
+		return false;
+	}
+
+	private FertilizerType getFertilizerType(int stackIndex)
+	{
+		FertilizerType type = _fertilizerTypes[stackIndex];
+		if (type == null)
+		{
+			ItemStack fertStack = getStackInSlot(stackIndex);
+			IFactoryFertilizer fertilizer = fertStack == null ? null : MFRRegistry.getFertilizers().get(fertStack.getItem());
+			type = fertilizer == null ? FertilizerType.None : fertilizer.getFertilizerType(fertStack);
+			if (type == null)
+				type = FertilizerType.None;
+			_fertilizers[stackIndex] = fertilizer;
+			_fertilizerTypes[stackIndex] = type;
+		}
+		return type;
+	}
+
 	@Override
 	public int getSizeInventory()
 	{
@@ -17,18 +17,20 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
 import powercrystals.minefactoryreloaded.MFRRegistry;
 import powercrystals.minefactoryreloaded.api.IFactoryGrindable;
 import powercrystals.minefactoryreloaded.api.MobDrop;
+import powercrystals.minefactoryreloaded.core.EntityClassInfo;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.GrindingDamage;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.core.MFRLiquidMover;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryPowered;
 import powercrystals.minefactoryreloaded.gui.container.ContainerFactoryPowered;
+import powercrystals.minefactoryreloaded.setup.MFRConfig;
 import powercrystals.minefactoryreloaded.setup.Machine;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryPowered;
 import powercrystals.minefactoryreloaded.world.GrindingWorldServer;
@@ -48,7 +50,7 @@ public class TileEntityGrinder extends TileEntityFactoryPowered implements ITank
 		_rand = new Random();
 		setManageSolids(true);
 		setCanRotate(true);
-		_tanks[0].setLock(FluidRegistry.getFluid("mobessence"));
+		_tanks[0].setLock(FluidHandle.mobEssence.getFluid());
 	}
 
 	public TileEntityGrinder()
@@ -122,26 +124,37 @@ public class TileEntityGrinder extends TileEntityFactoryPowered implements ITank
 	public boolean activateMachine()
 	{
 		_grindingWorld.cleanReferences();
+		_grindingWorld.collectDrops();
 		List<?> entities = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, _areaManager.getHarvestArea().toAxisAlignedBB());
 
+		int batch = Math.max(MFRConfig.grinderBatchSize.getInt(), 1);
+		int ground = 0;
+		boolean survived = false;
+
 		entityList: for(Object o : entities)
 		{
+			if(ground >= batch || (ground > 0 && getEnergyStored() < getActivationEnergy() * (ground + 1)))
+			{
+				break;
+			}
+
 			EntityLivingBase e = (EntityLivingBase)o;
 			if(e instanceof EntityAgeable && ((EntityAgeable)e).getGrowingAge() < 0 || e.isEntityInvulnerable() || e.getHealth() <= 0)
 			{
 				continue;
 			}
 
+			EntityClassInfo info = MFRRegistry.getEntityClassInfo(e.getClass());
 			processEntity:
 			{
-				if(MFRRegistry.getGrindables().containsKey(e.getClass()))
+				if(info.grindable != null)
 				{
-					IFactoryGrindable r = MFRRegistry.getGrindables().get(e.getClass());
+					IFactoryGrindable r = info.grindable;
 					List<MobDrop> drops = r.grind(e.worldObj, e, getRandom());
 					if(drops != null && drops.size() > 0 && WeightedRandom.getTotalWeight(drops) > 0)
 					{
 						ItemStack drop = ((MobDrop)WeightedRandom.getRandomItem(_rand, drops)).getStack();
-						doDrop(drop);
+						_grindingWorld.addDrop(drop);
 					}
 					if(r.processEntity(e))
 					{
@@ -153,12 +166,9 @@ public class TileEntityGrinder extends TileEntityFactoryPowered implements ITank
 					}
 				}
 
-				for(Class<?> t : MFRRegistry.getGrinderBlacklist())
+				if(info.grinderBlacklisted)
 				{
-					if(t.isInstance(e))
-					{
-						continue entityList;
-					}
+					continue entityList;
 				}
 			}
 
@@ -168,19 +178,20 @@ public class TileEntityGrinder extends TileEntityFactoryPowered implements ITank
 			}
 
 			damageEntity(e);
-			if(e.getHealth() <= 0)
-			{
-				//fillTank(_tanks[0], "mobessence", 1);
-				setIdleTicks(20);
-			}
-			else
-			{
-				setIdleTicks(10);
-			}
-			return true;
+			survived |= e.getHealth() > 0;
+			++ground;
 		}
-		setIdleTicks(getIdleTicksMax());
-		return false;
+		_grindingWorld.flushDrops();
+
+		if(ground == 0)
+		{
+			setIdleTicks(getIdleTicksMax());
+			return false;
+		}
+		// the first activation is paid for by our caller
+		drainEnergy(getActivationEnergy() * (ground - 1));
+		setIdleTicks(survived ? 10 : 20);
+		return true;
 	}
 
 	protected void setRecentlyHit(EntityLivingBase entity, int t)
@@ -205,9 +216,9 @@ public class TileEntityGrinder extends TileEntityFactoryPowered implements ITank
 		return 0;
 	}
 
-	protected void fillTank(FluidTankAdv tank, String fluid, float amount)
+	protected void fillTank(FluidTankAdv tank, FluidHandle fluid, float amount)
 	{
-		tank.fill(FluidRegistry.getFluidStack(fluid, (int)(100 * amount)), true);
+		fluid.fill(tank, (int)(100 * amount), true);
 		markDirty();
 	}
 
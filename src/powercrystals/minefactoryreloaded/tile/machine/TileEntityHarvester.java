@@ -22,12 +22,12 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.event.ForgeEventFactory;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
 import powercrystals.minefactoryreloaded.MFRRegistry;
 import powercrystals.minefactoryreloaded.api.HarvestType;
 import powercrystals.minefactoryreloaded.api.IFactoryHarvestable;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.HarvestMode;
 import powercrystals.minefactoryreloaded.core.IHarvestManager;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
@@ -197,7 +197,7 @@ public class TileEntityHarvester extends TileEntityFactoryPowered implements ITa
 		setIdleTicks(getExtraIdleTime(10));
 
 		doDrop(drops);
-		_tanks[0].fill(FluidRegistry.getFluidStack("sludge", 10), true);
+		FluidHandle.sludge.fill(_tanks[0], 10, true);
 
 		harvestable.postHarvest(worldObj, target.x, target.y, target.z);
 
@@ -1,7 +1,6 @@
 package powercrystals.minefactoryreloaded.tile.machine;
 
-import net.minecraftforge.fluids.FluidRegistry;
-
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.setup.Machine;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityLiquidFabricator;
 
@@ -9,6 +8,6 @@ public class TileEntityLavaFabricator extends TileEntityLiquidFabricator
 {
 	public TileEntityLavaFabricator()
 	{
-		super(FluidRegistry.getFluidID("lava"), 20, Machine.LavaFabricator);
+		super(FluidHandle.lava.getID(), 20, Machine.LavaFabricator);
 	}
 }
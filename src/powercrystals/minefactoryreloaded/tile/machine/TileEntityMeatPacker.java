@@ -8,10 +8,10 @@ import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidHandler;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryPowered;
 import powercrystals.minefactoryreloaded.gui.container.ContainerFactoryPowered;
@@ -56,7 +56,7 @@ public class TileEntityMeatPacker extends TileEntityFactoryPowered implements IF
 			if (getWorkDone() >= getWorkMax())
 			{
 				ItemStack item;
-				if (_tanks[0].getFluid().equals(FluidRegistry.getFluidStack("meat", 1)))
+				if (FluidHandle.meat.isFluidEqual(_tanks[0].getFluid()))
 				{
 					item = new ItemStack(MFRThings.meatIngotRawItem);
 				}
@@ -96,8 +96,7 @@ public class TileEntityMeatPacker extends TileEntityFactoryPowered implements IF
 	@Override
 	public int fill(ForgeDirection from, FluidStack resource, boolean doFill)
 	{
-		if (resource == null || !(resource.isFluidEqual(FluidRegistry.getFluidStack("meat", 1)) ||
-				resource.isFluidEqual(FluidRegistry.getFluidStack("pinkslime", 1))))
+		if (!(FluidHandle.meat.isFluidEqual(resource) || FluidHandle.pinkSlime.isFluidEqual(resource)))
 		{
 			return 0;
 		}
@@ -60,7 +60,6 @@ public class TileEntityMobRouter extends TileEntityFactoryPowered
 
 		List<? extends EntityLivingBase> entities = worldObj.getEntitiesWithinAABB(EntityLivingBase.class,
 				_areaManager.getHarvestArea().toAxisAlignedBB());
-		List<Class<?>> blacklist = MFRRegistry.getSafariNetBlacklist();
 
 		switch (_matchMode)
 		{
@@ -75,7 +74,7 @@ public class TileEntityMobRouter extends TileEntityFactoryPowered
 		for (EntityLivingBase entity : entities)
 		{
 			Class<?> entityClass = entity.getClass();
-			if (blacklist.contains(entityClass) || EntityPlayer.class.isAssignableFrom(entityClass))
+			if (MFRRegistry.getEntityClassInfo(entityClass).safariNetBlacklisted || EntityPlayer.class.isAssignableFrom(entityClass))
 				continue;
 			boolean match;
 			switch (_matchMode)
@@ -4,7 +4,10 @@ import cofh.core.util.fluid.FluidTankAdv;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
+import gnu.trove.map.hash.TLongLongHashMap;
+
 import java.util.List;
+import java.util.UUID;
 
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.InventoryPlayer;
@@ -15,6 +18,7 @@ import net.minecraftforge.fluids.FluidStack;
 
 import powercrystals.minefactoryreloaded.MFRRegistry;
 import powercrystals.minefactoryreloaded.api.IFactoryRanchable;
+import powercrystals.minefactoryreloaded.api.IFactoryRanchableTimed;
 import powercrystals.minefactoryreloaded.api.RanchedItem;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
@@ -25,6 +29,10 @@ import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryPowered;
 
 public class TileEntityRancher extends TileEntityFactoryPowered implements ITankContainerBucketable
 {
+	// world time at which each entity (by UUID) is next worth visiting; rebuilt every pass so mobs that left are dropped
+	protected TLongLongHashMap _nextRanch = new TLongLongHashMap();
+	protected TLongLongHashMap _nextRanchSwap = new TLongLongHashMap();
+	
 	public TileEntityRancher()
 	{
 		super(Machine.Rancher);
@@ -68,41 +76,76 @@ public class TileEntityRancher extends TileEntityFactoryPowered implements ITank
 	public boolean activateMachine()
 	{
 		boolean didDrop = false;
+		long now = worldObj.getTotalWorldTime();
+		long wake = now + getIdleTicksMax();
+		TLongLongHashMap next = _nextRanchSwap;
 		
 		List<?> entities = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, _areaManager.getHarvestArea().toAxisAlignedBB());
 		
 		for (Object o : entities)
 		{
 			EntityLivingBase e = (EntityLivingBase)o;
-			if (MFRRegistry.getRanchables().containsKey(e.getClass()))
+			IFactoryRanchable r = MFRRegistry.getEntityClassInfo(e.getClass()).ranchable;
+			if (r == null)
+				continue;
+			
+			UUID id = e.getUniqueID();
+			long key = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+			long due = _nextRanch.get(key);
+			if (due > now || didDrop)
 			{
-				IFactoryRanchable r = MFRRegistry.getRanchables().get(e.getClass());
-				List<RanchedItem> drops = r.ranch(worldObj, e, this);
-				if (drops != null)
+				// not due yet, or we already have our yield for this pass: carry it over untouched
+				if (due > now)
 				{
-					for (RanchedItem s : drops)
-					{
-						if (s.hasFluid()) // whitelist fluids? multiple tanks?
-						{
-							fill((FluidStack)s.getResult(), true);
-							didDrop = true;
-							continue;
-						}
-						
-						doDrop((ItemStack)s.getResult());
-						didDrop = true;
-					}
-					if (didDrop)
+					next.put(key, due);
+					if (due < wake)
+						wake = due;
+				}
+				continue;
+			}
+			
+			boolean yielded = false;
+			List<RanchedItem> drops = r.ranch(worldObj, e, this);
+			if (drops != null)
+			{
+				for (RanchedItem s : drops)
+				{
+					if (s.hasFluid()) // whitelist fluids? multiple tanks?
 					{
-						markDirty();
-						setIdleTicks(20);
-						return true;
+						fill((FluidStack)s.getResult(), true);
+						yielded = true;
+						continue;
 					}
+					
+					doDrop((ItemStack)s.getResult());
+					yielded = true;
 				}
 			}
+			
+			due = r instanceof IFactoryRanchableTimed ? ((IFactoryRanchableTimed)r).getNextRanchTime(worldObj, e) : -1;
+			if (due <= now && !yielded)
+				due = now + getIdleTicksMax();
+			if (due > now)
+			{
+				next.put(key, due);
+				if (due < wake)
+					wake = due;
+			}
+			didDrop |= yielded;
+		}
+		
+		_nextRanchSwap = _nextRanch;
+		_nextRanchSwap.clear();
+		_nextRanch = next;
+		
+		if (didDrop)
+		{
+			markDirty();
+			setIdleTicks(20);
+			return true;
 		}
 		
-		setIdleTicks(getIdleTicksMax());
+		setIdleTicks((int)Math.max(Math.min(wake - now, getIdleTicksMax()), 1));
 		return false;
 	}
 	
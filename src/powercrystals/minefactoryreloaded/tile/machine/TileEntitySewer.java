@@ -1,12 +1,13 @@
 package powercrystals.minefactoryreloaded.tile.machine;
 
 import cofh.core.util.fluid.FluidTankAdv;
-import cofh.lib.util.position.Area;
-import cofh.lib.util.position.BlockPosition;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
@@ -16,32 +17,35 @@ import net.minecraft.entity.passive.EntityVillager;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.core.MFRLiquidMover;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiSewer;
 import powercrystals.minefactoryreloaded.gui.container.ContainerSewer;
-import powercrystals.minefactoryreloaded.setup.MFRThings;
 import powercrystals.minefactoryreloaded.setup.Machine;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryInventory;
 
 public class TileEntitySewer extends TileEntityFactoryInventory implements ITankContainerBucketable
 {
+	// every loaded sewer, per world, so jams can be found when sewers come and go instead of by polling
+	private static Map<World, List<TileEntitySewer>> _sewers = new WeakHashMap<World, List<TileEntitySewer>>();
+
 	private boolean _jammed;
+	private boolean _registered;
 	private int _tick;
-	private long _nextSewerCheckTick;
 
 	public TileEntitySewer()
 	{
 		super(Machine.Sewer);
 		createHAM(this, 0, 1, 0, false);
 		_areaManager.setOverrideDirection(ForgeDirection.UP);
-		_tanks[0].setLock(FluidRegistry.getFluid("sewage"));
+		_tanks[0].setLock(FluidHandle.sewage.getFluid());
 	}
 
 	@Override
@@ -67,6 +71,86 @@ public class TileEntitySewer extends TileEntityFactoryInventory implements ITank
 	protected void onFactoryInventoryChanged()
 	{
 		_areaManager.updateUpgradeLevel(_inventory[0]);
+		if (_registered)
+			_jammed = findJam(_sewers.get(worldObj));
+	}
+
+	@Override
+	public void cofh_validate()
+	{
+		super.cofh_validate();
+		if (!worldObj.isRemote)
+			register();
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		unregister();
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		unregister();
+	}
+
+	private void register()
+	{
+		if (_registered)
+			return;
+		List<TileEntitySewer> sewers = _sewers.get(worldObj);
+		if (sewers == null)
+		{
+			sewers = new ArrayList<TileEntitySewer>();
+			_sewers.put(worldObj, sewers);
+		}
+		for (int i = sewers.size(); i --> 0; )
+		{
+			TileEntitySewer other = sewers.get(i);
+			if (other.covers(this))
+				other._jammed = true;
+		}
+		sewers.add(this);
+		_registered = true;
+		_jammed = findJam(sewers);
+	}
+
+	private void unregister()
+	{
+		if (!_registered)
+			return;
+		_registered = false;
+		List<TileEntitySewer> sewers = _sewers.get(worldObj);
+		if (sewers == null || !sewers.remove(this))
+			return;
+		for (int i = sewers.size(); i --> 0; )
+		{
+			TileEntitySewer other = sewers.get(i);
+			if (other._jammed && other.covers(this))
+				other._jammed = other.findJam(sewers);
+		}
+	}
+
+	/**
+	 * @return true if <tt>other</tt> sits in the same layer as this sewer and within its collection radius
+	 */
+	private boolean covers(TileEntitySewer other)
+	{
+		int r = _areaManager.getRadius();
+		return other != this && other.yCoord == yCoord &&
+				Math.abs(other.xCoord - xCoord) <= r && Math.abs(other.zCoord - zCoord) <= r;
+	}
+
+	private boolean findJam(List<TileEntitySewer> sewers)
+	{
+		if (sewers != null)
+			for (int i = sewers.size(); i --> 0; )
+				if (covers(sewers.get(i)))
+					return true;
+		return false;
 	}
 
 	@Override
@@ -79,29 +163,13 @@ public class TileEntitySewer extends TileEntityFactoryInventory implements ITank
 		}
 		_tick++;
 
-		if (_nextSewerCheckTick <= worldObj.getTotalWorldTime())
-		{
-			Area a = new Area(BlockPosition.fromRotateableTile(this), _areaManager.getRadius(), 0, 0);
-			_jammed = false;
-			for (BlockPosition bp : a.getPositionsBottomFirst())
-			{
-				if (worldObj.getBlock(bp.x, bp.y, bp.z).equals(MFRThings.machineBlocks.get(0)) &&
-						worldObj.getBlockMetadata(bp.x, bp.y, bp.z) == Machine.Sewer.getMeta() &&
-						!(bp.x == xCoord && bp.y == yCoord && bp.z == zCoord))
-				{
-					_jammed = true;
-					break;
-				}
-			}
-
-			_nextSewerCheckTick = worldObj.getTotalWorldTime() + 800 + worldObj.rand.nextInt(800);
-		}
-
 		if (_tick >= 31 && !_jammed)
 		{
 			_tick = 0;
-			List<?> entities = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, _areaManager.getHarvestArea().toAxisAlignedBB());
+			// one pass for both animals and orbs
+			List<?> entities = worldObj.getEntitiesWithinAABB(Entity.class, _areaManager.getHarvestArea().toAxisAlignedBB());
 			double massFound = 0;
+			boolean xpSpace = _tanks[1].getSpace() > 0;
 			for (Object o : entities)
 			{
 				if (o instanceof EntityAnimal || o instanceof EntityVillager)
@@ -112,26 +180,15 @@ public class TileEntitySewer extends TileEntityFactoryInventory implements ITank
 				{
 					massFound += Math.pow(((EntityLivingBase)o).boundingBox.getAverageEdgeLength(), 2);
 				}
+				else if (xpSpace && o instanceof EntityXPOrb && !((Entity)o).isDead)
+				{
+					if (MFRLiquidMover.fillTankWithXP(_tanks[1], (EntityXPOrb)o) == 0)
+						xpSpace = false;
+				}
 			}
 			if (massFound > 0)
 			{
-				_tanks[0].fill(FluidRegistry.getFluidStack("sewage", (int)(25 * massFound)), true);
-			}
-			int maxAmount = _tanks[1].getSpace();
-			if (maxAmount <= 0)
-			{
-				return;
-			}
-			entities = worldObj.getEntitiesWithinAABB(EntityXPOrb.class, _areaManager.getHarvestArea().toAxisAlignedBB());
-			for (Object o : entities)
-			{
-				Entity e = (Entity)o;
-				if (e != null & e instanceof EntityXPOrb && !e.isDead)
-				{
-					EntityXPOrb orb = (EntityXPOrb)o;
-					if (MFRLiquidMover.fillTankWithXP(_tanks[1], orb) == 0)
-						break;
-				}
+				FluidHandle.sewage.fill(_tanks[0], (int)(25 * massFound), true);
 			}
 		}
 	}
@@ -8,9 +8,9 @@ import net.minecraft.entity.EntityAgeable;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.item.EntityXPOrb;
 import net.minecraft.world.World;
-import net.minecraftforge.fluids.FluidRegistry;
 
 import powercrystals.minefactoryreloaded.MFRRegistry;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.GrindingDamage;
 import powercrystals.minefactoryreloaded.setup.Machine;
 
@@ -21,8 +21,8 @@ public class TileEntitySlaughterhouse extends TileEntityGrinder
 		super(Machine.Slaughterhouse);
 		_damageSource = new GrindingDamage("mfr.slaughterhouse", 2);
 		setManageSolids(false);
-		_tanks[0].setLock(FluidRegistry.getFluid("meat"));
-		_tanks[1].setLock(FluidRegistry.getFluid("pinkslime"));
+		_tanks[0].setLock(FluidHandle.meat.getFluid());
+		_tanks[1].setLock(FluidHandle.pinkSlime.getFluid());
 	}
 
 	@Override
@@ -49,12 +49,9 @@ public class TileEntitySlaughterhouse extends TileEntityGrinder
 		entityList: for(Object o : entities)
 		{
 			EntityLivingBase e = (EntityLivingBase)o;
-			for(Class<?> t : MFRRegistry.getSlaughterhouseBlacklist())
+			if(MFRRegistry.getEntityClassInfo(e.getClass()).slaughterhouseBlacklisted)
 			{
-				if(t.isInstance(e))
-				{
-					continue entityList;
-				}
+				continue entityList;
 			}
 			if((e instanceof EntityAgeable && ((EntityAgeable)e).getGrowingAge() < 0) || e.isEntityInvulnerable() ||
 					e.getHealth() <= 0 || !_grindingWorld.addEntityForGrinding(e))
@@ -66,9 +63,9 @@ public class TileEntitySlaughterhouse extends TileEntityGrinder
 			if(e.getHealth() <= 0)
 			{
 				if (_rand.nextInt(8) != 0)
-					fillTank(_tanks[0], "meat", massFound);
+					fillTank(_tanks[0], FluidHandle.meat, massFound);
 				else
-					fillTank(_tanks[1], "pinkslime", massFound);
+					fillTank(_tanks[1], FluidHandle.pinkSlime, massFound);
 				setIdleTicks(10);
 			}
 			else
@@ -16,26 +16,29 @@ import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionEffect;
+import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.WeightedRandom;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
 import powercrystals.minefactoryreloaded.MFRRegistry;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
+import powercrystals.minefactoryreloaded.core.IAreaEffect;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryPowered;
 import powercrystals.minefactoryreloaded.gui.container.ContainerFactoryPowered;
+import powercrystals.minefactoryreloaded.net.AreaEffectScheduler;
 import powercrystals.minefactoryreloaded.setup.MFRThings;
 import powercrystals.minefactoryreloaded.setup.Machine;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryPowered;
 
-public class TileEntitySludgeBoiler extends TileEntityFactoryPowered implements ITankContainerBucketable
+public class TileEntitySludgeBoiler extends TileEntityFactoryPowered implements ITankContainerBucketable, IAreaEffect
 {
 	private Random _rand;
-	private int _tick;
 	private Area _area;
+	private AxisAlignedBB _effectArea;
 
 	public TileEntitySludgeBoiler()
 	{
@@ -43,7 +46,7 @@ public class TileEntitySludgeBoiler extends TileEntityFactoryPowered implements
 		setManageSolids(true);
 		_activeSyncTimeout = 5;
 		_rand = new Random();
-		_tanks[0].setLock(FluidRegistry.getFluid("sludge"));
+		_tanks[0].setLock(FluidHandle.sludge.getFluid());
 	}
 
 	@Override
@@ -64,6 +67,28 @@ public class TileEntitySludgeBoiler extends TileEntityFactoryPowered implements
 	{
 		super.validate();
 		_area = new Area(new BlockPosition(this), 3, 3, 3);
+		_effectArea = _area.toAxisAlignedBB();
+	}
+
+	@Override
+	public void cofh_validate()
+	{
+		super.cofh_validate();
+		AreaEffectScheduler.register(worldObj, this);
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		AreaEffectScheduler.unregister(worldObj, this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		AreaEffectScheduler.unregister(worldObj, this);
 	}
 
 	@Override
@@ -85,7 +110,6 @@ public class TileEntitySludgeBoiler extends TileEntityFactoryPowered implements
 		{
 			if (!incrementWorkDone()) return false;
 			drain(_tanks[0], 10, true);
-			_tick++;
 
 			if (getWorkDone() >= getWorkMax())
 			{
@@ -95,22 +119,46 @@ public class TileEntitySludgeBoiler extends TileEntityFactoryPowered implements
 
 				setWorkDone(0);
 			}
-
-			if (_tick >= 23)
-			{
-				List<EntityLivingBase> entities = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, _area.toAxisAlignedBB());
-				for (EntityLivingBase ent : entities)
-				{
-					ent.addPotionEffect(new PotionEffect(Potion.hunger.id, 20 * 20, 0));
-					ent.addPotionEffect(new PotionEffect(Potion.poison.id, 6 * 20, 0));
-				}
-				_tick = 0;
-			}
 			return true;
 		}
 		return false;
 	}
 
+	@Override
+	public boolean isNotValid()
+	{
+		return isInvalid();
+	}
+
+	@Override
+	public boolean isEffectActive()
+	{
+		return isActive();
+	}
+
+	@Override
+	public int getEffectInterval()
+	{
+		return 23;
+	}
+
+	@Override
+	public AxisAlignedBB getEffectArea()
+	{
+		return _effectArea;
+	}
+
+	@Override
+	public void applyEffect(List<EntityLivingBase> entities)
+	{
+		for (int i = 0, e = entities.size(); i < e; ++i)
+		{
+			EntityLivingBase ent = entities.get(i);
+			ent.addPotionEffect(new PotionEffect(Potion.hunger.id, 20 * 20, 0));
+			ent.addPotionEffect(new PotionEffect(Potion.poison.id, 6 * 20, 0));
+		}
+	}
+
 	@Override
 	protected boolean updateIsActive(boolean failedDrops)
 	{
@@ -16,6 +16,7 @@ import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidTank;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.core.UtilInventory;
 import powercrystals.minefactoryreloaded.gui.client.GuiFactoryInventory;
@@ -35,19 +36,24 @@ public class TileEntitySteamBoiler extends TileEntityFactoryInventory
 		return TileEntityFurnace.getItemBurnTime(stack) / 2;
 	}
 
-	private final int _liquidId;
+	private static final int maxBurningTime = 10649, minBurningTime = -(10649 * 2);
+
 	private int _ticksUntilConsumption = 0;
 	private int _ticksSinceLastConsumption = 0;
 	private int _totalBurningTime;
 	private float _temp;
 
+	// while the burning time is pinned at one of its limits the temperature moves linearly, so the full
+	// simulation only has to run when something changes; quiet ticks are counted and applied in one step
+	private int _quietTicks;
+	private int _pendingTicks;
+
 	public TileEntitySteamBoiler()
 	{
 		super(Machine.SteamBoiler);
 		setManageSolids(true);
-		_liquidId = FluidRegistry.getFluid("steam").getID();
-		_tanks[0].setLock(FluidRegistry.getFluid("steam"));
-		_tanks[1].setLock(FluidRegistry.getFluid("water"));
+		_tanks[0].setLock(FluidHandle.steam.getFluid());
+		_tanks[1].setLock(FluidHandle.water.getFluid());
 	}
 
 	@Override
@@ -65,16 +71,19 @@ public class TileEntitySteamBoiler extends TileEntityFactoryInventory
 
 	public float getTemp()
 	{
+		catchUp();
 		return _temp;
 	}
 
 	public int getWorkMax()
 	{
+		catchUp();
 		return _ticksUntilConsumption;
 	}
 
 	public int getWorkDone()
 	{
+		catchUp();
 		return _ticksSinceLastConsumption;
 	}
 
@@ -102,27 +111,56 @@ public class TileEntitySteamBoiler extends TileEntityFactoryInventory
 		_ticksUntilConsumption = a;
 	}
 
+	private static float heatChange(int totalBurningTime)
+	{
+		float diff = (float)Math.sqrt(Math.abs(totalBurningTime)) / 103f;
+		diff = Math.copySign(diff, totalBurningTime) / 1.26f;
+		return (diff * diff * diff) / 50f;
+	}
+
+	private static int consumptionRate(int totalBurningTime)
+	{
+		return 1 + (Math.abs(totalBurningTime) + 1063) / 1064;
+	}
+
+	@Override
+	protected void onFactoryInventoryChanged()
+	{
+		_quietTicks = 0;
+	}
+
 	@Override
 	public void updateEntity()
 	{
 		super.updateEntity();
 		if (!worldObj.isRemote)
 		{
+			if (_quietTicks > 0)
+			{
+				--_quietTicks;
+				++_pendingTicks;
+				// the quiet period never crosses the steam threshold, so the temperature at its start will do
+				if (_temp > 80)
+					makeSteam();
+				return;
+			}
+			catchUp();
+
 			boolean active = _ticksSinceLastConsumption < _ticksUntilConsumption;
 			setIsActive(active);
 
 			if (_ticksUntilConsumption > 0)
 			{
-				int inc = 1 + (Math.abs(_totalBurningTime) + 1063) / 1064;
+				int inc = consumptionRate(_totalBurningTime);
 				_ticksSinceLastConsumption = Math.min(_ticksSinceLastConsumption + inc, _ticksUntilConsumption);
 			}
 			boolean skipConsumption = _ticksSinceLastConsumption < _ticksUntilConsumption;
 
 			if (active)
-				_totalBurningTime = Math.max(Math.min(_totalBurningTime + 1, 10649), -180);
+				_totalBurningTime = Math.max(Math.min(_totalBurningTime + 1, maxBurningTime), -180);
 			else if (_temp != 0)
 			{
-				_totalBurningTime = Math.max(_totalBurningTime - 16, -(10649 * 2));
+				_totalBurningTime = Math.max(_totalBurningTime - 16, minBurningTime);
 				_ticksUntilConsumption = 0;
 			}
 
@@ -135,26 +173,86 @@ public class TileEntitySteamBoiler extends TileEntityFactoryInventory
 
 			if (_temp == maxTemp ? _totalBurningTime < 0 : (_totalBurningTime > 0 ? true : _temp != 0))
 			{
-				float diff = (float)Math.sqrt(Math.abs(_totalBurningTime)) / 103f;
-				diff = Math.copySign(diff, _totalBurningTime) / 1.26f;
-
-				_temp = Math.max(Math.min(_temp + (diff * diff * diff) / 50f, maxTemp), 0);
+				_temp = Math.max(Math.min(_temp + heatChange(_totalBurningTime), maxTemp), 0);
 			}
 
 			if (_temp > 80)
-			{
-				int i = drain(_tanks[1], 100, true);
-				_tanks[0].fill(new FluidStack(_liquidId, i * 4), true);
-			}
+				makeSteam();
 
 			if (skipConsumption || CoreUtils.isRedstonePowered(this))
+			{
+				_quietTicks = getQuietTicks();
 				return;
+			}
 
 			if (consumeFuel())
 				_ticksSinceLastConsumption = 0;
 
 			mergeFuel();
+			_quietTicks = getQuietTicks();
+		}
+	}
+
+	protected void makeSteam()
+	{
+		int i = drain(_tanks[1], 100, true);
+		FluidHandle.steam.fill(_tanks[0], i * 4, true);
+	}
+
+	/**
+	 * @return How many of the following ticks are known to change nothing but the temperature (linearly) and
+	 *         fuel progress, and to stay on one side of the steam threshold.
+	 */
+	protected int getQuietTicks()
+	{
+		int quiet;
+		float rate;
+		if (_ticksSinceLastConsumption < _ticksUntilConsumption)
+		{
+			// burning with the burning time pinned at its maximum; stop short of the fuel running out
+			if (_totalBurningTime != maxBurningTime || _temp == 0)
+				return 0;
+			int inc = consumptionRate(_totalBurningTime);
+			quiet = (_ticksUntilConsumption - _ticksSinceLastConsumption - 1) / inc;
+			rate = _temp == maxTemp ? 0 : heatChange(_totalBurningTime);
+		}
+		else
+		{
+			// cooling at the fastest rate with nothing left to burn
+			if (_totalBurningTime != minBurningTime || _temp == 0)
+				return 0;
+			for (int i = 0; i < 4; ++i)
+				if (_inventory[i] != null)
+					return 0;
+			quiet = Integer.MAX_VALUE;
+			rate = heatChange(_totalBurningTime);
+		}
+		if (rate > 0 && _temp <= 80)
+			quiet = Math.min(quiet, (int)((80 - _temp) / rate));
+		else if (rate < 0 && _temp > 80)
+			quiet = Math.min(quiet, (int)((80 - _temp) / rate));
+		return Math.max(quiet - 1, 0);
+	}
+
+	/**
+	 * Applies the ticks that went by quietly. Only ever called on the server; when the chunk is saved this
+	 * runs first, so nothing is carried over (or caught up) across an unload.
+	 */
+	protected void catchUp()
+	{
+		int n = _pendingTicks;
+		if (n <= 0)
+			return;
+		_pendingTicks = 0;
+		if (_ticksSinceLastConsumption < _ticksUntilConsumption)
+		{
+			int inc = consumptionRate(_totalBurningTime);
+			_ticksSinceLastConsumption = (int)Math.min(_ticksSinceLastConsumption + (long)inc * n, _ticksUntilConsumption);
+			if (_temp != maxTemp)
+				_temp = Math.min(_temp + heatChange(_totalBurningTime) * n, maxTemp);
 		}
+		else if (_temp != 0)
+			_temp = Math.max(_temp + heatChange(_totalBurningTime) * n, 0);
 	}
 
 	protected void mergeFuel()
@@ -195,6 +293,7 @@ public class TileEntitySteamBoiler extends TileEntityFactoryInventory
 	@Override
 	public void writeToNBT(NBTTagCompound tag)
 	{
+		catchUp();
 		super.writeToNBT(tag);
 
 		tag.setInteger("ticksSinceLastConsumption", _ticksSinceLastConsumption);
@@ -275,6 +374,7 @@ public class TileEntitySteamBoiler extends TileEntityFactoryInventory
 		if (resource != null && resource.getFluid() == FluidRegistry.WATER)
 		{
 			if (MFRConfig.steamBoilerExplodes.getBoolean(false)) {
+				catchUp();
 				if (_temp > 80 && _tanks[1].getFluidAmount() == 0) {
 					worldObj.createExplosion(null, xCoord + 0.5d, yCoord + 0.5d, zCoord + 0.5d, 3, true);
 				}
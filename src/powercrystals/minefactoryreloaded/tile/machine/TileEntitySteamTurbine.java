@@ -2,9 +2,9 @@ package powercrystals.minefactoryreloaded.tile.machine;
 
 import cofh.core.util.fluid.FluidTankAdv;
 
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.setup.Machine;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityLiquidGenerator;
 
@@ -16,7 +16,7 @@ public class TileEntitySteamTurbine extends TileEntityLiquidGenerator
 	public TileEntitySteamTurbine()
 	{
 		super(Machine.SteamTurbine, liquidConsumedPerTick, ticksBetweenConsumption);
-		_tanks[0].setLock(FluidRegistry.getFluid("steam"));
+		_tanks[0].setLock(FluidHandle.steam.getFluid());
 	}
 	
 	@Override
@@ -14,10 +14,10 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 
 import powercrystals.minefactoryreloaded.MFRRegistry;
+import powercrystals.minefactoryreloaded.core.FluidHandle;
 import powercrystals.minefactoryreloaded.core.ITankContainerBucketable;
 import powercrystals.minefactoryreloaded.core.OreDictionaryArbiter;
 import powercrystals.minefactoryreloaded.core.UtilInventory;
@@ -30,8 +30,6 @@ import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryInventory;
 public class TileEntityUnifier extends TileEntityFactoryInventory implements ITankContainerBucketable
 {
 	private boolean ignoreChange = false;
-	private static FluidStack _biofuel;
-	private static FluidStack _ethanol;
 	private int _roundingCompensation;
 
 	private Map<String, ItemStack> _preferredOutputs = new HashMap<String, ItemStack>();
@@ -45,8 +43,7 @@ public class TileEntityUnifier extends TileEntityFactoryInventory implements ITa
 
 	public static void updateUnifierLiquids()
 	{
-		_biofuel = FluidRegistry.getFluidStack("biofuel", 1);
-		_ethanol = FluidRegistry.getFluidStack("bioethanol", 1);
+		FluidHandle.resolveAll();
 	}
 
 	@Override
@@ -275,12 +272,12 @@ public class TileEntityUnifier extends TileEntityFactoryInventory implements ITa
 
 	private FluidStack unifierTransformLiquid(FluidStack resource, boolean doFill)
 	{
-		if(_ethanol != null & _biofuel != null)
+		if (FluidHandle.bioethanol.getFluid() != null & FluidHandle.biofuel.getFluid() != null)
 		{
-			if (_ethanol.isFluidEqual(resource))
-				return new FluidStack(_biofuel.fluidID, resource.amount);
-			else if (_biofuel.isFluidEqual(resource))
-				return new FluidStack(_ethanol.fluidID, resource.amount);
+			if (FluidHandle.bioethanol.isFluidEqual(resource))
+				return FluidHandle.biofuel.newStack(resource.amount);
+			else if (FluidHandle.biofuel.isFluidEqual(resource))
+				return FluidHandle.bioethanol.newStack(resource.amount);
 		}
 		return null;
 	}
@@ -29,6 +29,16 @@ public class RedstoneEnergyNetwork implements IGrid {
 	public int distribution;
 	public int distributionSide;
 
+	// (node, side) pairs that actually have an energy source or receiver attached; rebuilt when the topology or a node's cache changes
+	private boolean endpointsDirty = true;
+	private TileEntityRedNetEnergy[] sourceNodes = new TileEntityRedNetEnergy[0];
+	private ForgeDirection[] sourceSides = new ForgeDirection[0];
+	private int sourceCount;
+	private TileEntityRedNetEnergy[] receiverNodes = new TileEntityRedNetEnergy[0];
+	private ForgeDirection[] receiverSides = new ForgeDirection[0];
+	private int[] receiverDemand = new int[0];
+	private int receiverCount;
+
 	protected RedstoneEnergyNetwork() {
 		storage.setCapacity(STORAGE);
 		storage.setMaxTransfer(TRANSFER_RATE);
@@ -78,6 +88,50 @@ public class RedstoneEnergyNetwork implements IGrid {
 		}
 	}
 
+	void invalidateEndpoints() {
+		endpointsDirty = true;
+	}
+
+	private void compileEndpoints() {
+		endpointsDirty = false;
+		int sources = 0, receivers = 0;
+		for (TileEntityRedNetEnergy cond : nodeSet)
+			for (int i = 0; i < 6; ++i) {
+				if (cond.isSource(i)) ++sources;
+				if (cond.isReceiver(i)) ++receivers;
+			}
+
+		if (sourceNodes.length < sources) {
+			sourceNodes = new TileEntityRedNetEnergy[sources];
+			sourceSides = new ForgeDirection[sources];
+		}
+		if (receiverNodes.length < receivers) {
+			receiverNodes = new TileEntityRedNetEnergy[receivers];
+			receiverSides = new ForgeDirection[receivers];
+			receiverDemand = new int[receivers];
+		}
+
+		ForgeDirection[] directions = ForgeDirection.VALID_DIRECTIONS;
+		sources = receivers = 0;
+		for (TileEntityRedNetEnergy cond : nodeSet)
+			for (int i = 0; i < 6; ++i) {
+				if (cond.isSource(i)) {
+					sourceNodes[sources] = cond;
+					sourceSides[sources++] = directions[i];
+				}
+				if (cond.isReceiver(i)) {
+					receiverNodes[receivers] = cond;
+					receiverSides[receivers++] = directions[i];
+				}
+			}
+		for (int i = sources; i < sourceCount; ++i)
+			sourceNodes[i] = null;
+		for (int i = receivers; i < receiverCount; ++i)
+			receiverNodes[i] = null;
+		sourceCount = sources;
+		receiverCount = receivers;
+	}
+
 	public void regenerate() {
 		regenerating = true;
 		HANDLER.regenerateGrid(this);
@@ -136,6 +190,7 @@ public class RedstoneEnergyNetwork implements IGrid {
 	}
 
 	public void destroyGrid() {
+		endpointsDirty = true;
 		master = null;
 		regenerating = true;
 		for (TileEntityRedNetEnergy curCond : nodeSet)
@@ -165,11 +220,13 @@ public class RedstoneEnergyNetwork implements IGrid {
 		EnergyStorage tank = storage;
 		if (tank.getEnergyStored() >= tank.getMaxEnergyStored())
 			return;
-		ForgeDirection[] directions = ForgeDirection.VALID_DIRECTIONS;
+		if (endpointsDirty)
+			compileEndpoints();
 
-		for (TileEntityRedNetEnergy cond : nodeSet)
-			for (int i = 6; i --> 0; )
-				cond.extract(directions[i], tank);
+		TileEntityRedNetEnergy[] nodes = sourceNodes;
+		ForgeDirection[] sides = sourceSides;
+		for (int i = sourceCount; i --> 0; )
+			nodes[i].extract(sides[i], tank);
 	}
 
 	@Override
@@ -183,39 +240,57 @@ public class RedstoneEnergyNetwork implements IGrid {
 		EnergyStorage storage = this.storage;
 		if (storage.getEnergyStored() <= 0)
 			return;
-		ForgeDirection[] directions = ForgeDirection.VALID_DIRECTIONS;
-		int size = nodeSet.size();
-		int toDistribute = storage.getEnergyStored() / size;
-		int sideDistribute = toDistribute / 6;
-
-		distribution = toDistribute;
-		distributionSide = sideDistribute;
+		if (endpointsDirty)
+			compileEndpoints();
+		int count = receiverCount;
+		distribution = distributionSide = 0;
+		if (count == 0)
+			return;
 
-		int overflow = overflowSelector = (overflowSelector + 1) % size;
-		TileEntityRedNetEnergy master = nodeSet.get(overflow);
+		TileEntityRedNetEnergy[] nodes = receiverNodes;
+		ForgeDirection[] sides = receiverSides;
+		int[] demand = receiverDemand;
 
-		if (sideDistribute > 0) for (TileEntityRedNetEnergy cond : nodeSet)
-			if (cond != master) {
-				int e = 0;
-				for (int i = 6; i --> 0; )
-					e += cond.transfer(directions[i], sideDistribute);
-				if (e > 0) storage.modifyEnergyStored(-e);
-			}
+		// demand pass: ask every receiver how much it will take this tick
+		long totalDemand = 0;
+		for (int i = count; i --> 0; ) {
+			int d = nodes[i].transfer(sides[i], TRANSFER_RATE, true);
+			demand[i] = d > 0 ? d : 0;
+			totalDemand += demand[i];
+		}
+		if (totalDemand <= 0)
+			return;
 
-		toDistribute += storage.getEnergyStored() % size;
-		sideDistribute = toDistribute / 6;
-
-		if (sideDistribute > 0) {
-			int e = 0;
-			for (int i = 6; i --> 0; )
-				e += master.transfer(directions[i], sideDistribute);
-			if (e > 0) storage.modifyEnergyStored(-e);
-		} else if (toDistribute > 0) {
-			int e = 0;
-			for (int i = 6; i --> 0 && e < toDistribute; )
-				e += master.transfer(directions[i], toDistribute - e);
-			if (e > 0) storage.modifyEnergyStored(-e);
+		// transfer pass: everything if there is enough, otherwise proportional to demand
+		int stored = storage.getEnergyStored();
+		int e = 0;
+		if (totalDemand <= stored) {
+			for (int i = count; i --> 0; )
+				if (demand[i] > 0)
+					e += nodes[i].transfer(sides[i], demand[i], false);
+		} else {
+			// rounding leftovers go to a rotating receiver so no single one is always favored
+			int overflow = overflowSelector;
+			do
+				overflow = (overflow + 1) % count;
+			while (demand[overflow] <= 0);
+			overflowSelector = overflow;
+
+			int remainder = stored;
+			for (int i = count; i --> 0; )
+				if (demand[i] > 0) {
+					demand[i] = (int)(demand[i] * (long)stored / totalDemand);
+					remainder -= demand[i];
+				}
+			demand[overflow] += remainder;
+			for (int i = count; i --> 0; )
+				if (demand[i] > 0)
+					e += nodes[i].transfer(sides[i], demand[i], false);
 		}
+		if (e > 0) storage.modifyEnergyStored(-e);
+
+		distribution = e;
+		distributionSide = e / count;
 	}
 
 	public boolean canMergeGrid(RedstoneEnergyNetwork otherGrid) {
@@ -240,6 +315,7 @@ public class RedstoneEnergyNetwork implements IGrid {
 	}
 
 	public void nodeAdded(TileEntityRedNetEnergy cond) {
+		endpointsDirty = true;
 		if (master == null) {
 			master = cond;
 			HANDLER.addGrid(this);
@@ -249,6 +325,7 @@ public class RedstoneEnergyNetwork implements IGrid {
 	}
 
 	public void nodeRemoved(TileEntityRedNetEnergy cond) {
+		endpointsDirty = true;
 		rebalanceGrid();
 		if (cond == master) {
 			if (nodeSet.isEmpty()) {
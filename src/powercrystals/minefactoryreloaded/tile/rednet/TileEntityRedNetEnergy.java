@@ -224,6 +224,8 @@ public class TileEntityRedNetEnergy extends TileEntityRedNetCable implements
 			;
 		}
 		if (!deadCache) {
+			if (_grid != null)
+				_grid.invalidateEndpoints();
 			if (lastMode != sideMode[side]) {
 				RedstoneEnergyNetwork.HANDLER.addConduitForUpdate(this);
 				worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
@@ -412,7 +414,29 @@ public class TileEntityRedNetEnergy extends TileEntityRedNetCable implements
 		}
 	}
 
-	int transfer(ForgeDirection side, int energy) {
+	boolean isSource(int bSide) {
+		if (deadCache || (sideMode[bSide] & 1) == 0) return false;
+		switch (sideMode[bSide] >> 1) {
+		case 1: // IEnergyHandler
+			return providerCache != null && providerCache[bSide] != null;
+		case 3: // IEnergyTile
+			return ic2Cache != null && ic2Cache.sourceCache != null && ic2Cache.sourceCache[bSide] != null;
+		}
+		return false;
+	}
+
+	boolean isReceiver(int bSide) {
+		if (deadCache || (sideMode[bSide] & 1) == 0) return false;
+		switch (sideMode[bSide] >> 1) {
+		case 1: // IEnergyHandler
+			return receiverCache != null && receiverCache[bSide] != null;
+		case 3: // IEnergyTile
+			return ic2Cache != null && ic2Cache.sinkCache != null && ic2Cache.sinkCache[bSide] != null;
+		}
+		return false;
+	}
+
+	int transfer(ForgeDirection side, int energy, boolean simulate) {
 		if (deadCache) return 0;
 		int bSide = side.ordinal();
 		if ((sideMode[bSide] & 1) != 0) {
@@ -421,14 +445,14 @@ public class TileEntityRedNetEnergy extends TileEntityRedNetCable implements
 				if (receiverCache != null) {
 					IEnergyReceiver handlerTile = receiverCache[bSide];
 					if (handlerTile != null)
-						return handlerTile.receiveEnergy(side, energy, false);
+						return handlerTile.receiveEnergy(side, energy, simulate);
 				}
 				break;
 			case 2: // unused
 				break;
 			case 3: // IEnergyTile
 				if (ic2Cache != null)
-					return ic2Cache.transmit(energy, side, bSide);
+					return ic2Cache.transmit(energy, side, bSide, simulate);
 				break;
 			case 4: // TileEntityRednetCable
 			case 0: // no mode
@@ -486,13 +510,15 @@ public class TileEntityRedNetEnergy extends TileEntityRedNetCable implements
 			}
 			return;
 		}
-		int transmit(int energy, ForgeDirection side, int bSide)
+		int transmit(int energy, ForgeDirection side, int bSide, boolean simulate)
 		{
 			if (sinkCache != null) {
 				IEnergySink sink = sinkCache[bSide];
 				if (sink == null) return 0;
 				int e = (int)Math.min(getPowerFromTier(sink.getSinkTier()) * energyPerEU, energy);
 				e = Math.min((int)(sink.getDemandedEnergy() * energyPerEU), e);
+				if (simulate)
+					return Math.max(e, 0);
 				if (e > 0) {
 					float v = e / (float)energyPerEU;
 					e -= (int)Math.ceil(sink.injectEnergy(side, v, getPowerFromTier(getTierFromPower(v))) * energyPerEU);
@@ -542,8 +568,10 @@ public class TileEntityRedNetEnergy extends TileEntityRedNetCable implements
 				isNode = true;
 			}
 		}
-		if (_grid != null)
+		if (_grid != null) {
 			_grid.addConduit(this);
+			_grid.invalidateEndpoints();
+		}
 		Packets.sendToAllPlayersWatching(this);
 	}
 
@@ -12,16 +12,16 @@ import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
 import net.minecraftforge.common.util.ForgeDirection;
 
-import powercrystals.minefactoryreloaded.core.ArrayQueue;
+import powercrystals.minefactoryreloaded.core.SignalHistory;
 import powercrystals.minefactoryreloaded.net.Packets;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityFactory;
 
 public class TileEntityRedNetHistorian extends TileEntityFactory
 {
-	@SideOnly(Side.CLIENT)
-	private ArrayQueue<Integer> _valuesClient;
-	@SideOnly(Side.CLIENT)
-	private int _currentValueClient;
+	public static final int HISTORY_LENGTH = 100;
+
+	private SignalHistory _history = new SignalHistory(HISTORY_LENGTH);
+	private int _timeScale = 0;
 
 	private int _currentSubnet = 0;
 	private int[] _lastValues = new int[16];
@@ -37,7 +37,11 @@ public class TileEntityRedNetHistorian extends TileEntityFactory
 		NBTTagCompound data = new NBTTagCompound();
 		data.setInteger("facing", getDirectionFacing().ordinal());
 		data.setInteger("subnet", _currentSubnet);
-		data.setInteger("current", _lastValues[_currentSubnet]);
+		data.setInteger("scale", _timeScale);
+		NBTTagCompound history = new NBTTagCompound();
+		_history.advance(worldObj.getTotalWorldTime());
+		_history.writeToNBT(history);
+		data.setTag("history", history);
 		S35PacketUpdateTileEntity packet = new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, 0, data);
 		return packet;
 	}
@@ -50,11 +54,12 @@ public class TileEntityRedNetHistorian extends TileEntityFactory
 		{
 		case 0:
 			_currentSubnet = data.getInteger("subnet");
-			_currentValueClient = data.getInteger("current");
+			_timeScale = data.getInteger("scale");
+			_history.readFromNBT(data.getCompoundTag("history"));
 			rotateDirectlyTo(data.getInteger("facing"));
 			break;
 		case 1:
-			_currentValueClient = data.getInteger("value");
+			_history.record(data.getLong("time"), data.getInteger("value"));
 			break;
 		}
 	}
@@ -64,58 +69,47 @@ public class TileEntityRedNetHistorian extends TileEntityFactory
 	{
 		if (!worldObj.isRemote)
 		{
-			setSelectedSubnet(_currentSubnet);
-		}
-		else
-		{
-			_valuesClient = new ArrayQueue<Integer>(100);
-			_currentValueClient = 0;
+			if (_history.getTime() == 0)
+				_history.reset(worldObj.getTotalWorldTime(), _lastValues[_currentSubnet]);
+			else
+				_history.advance(worldObj.getTotalWorldTime());
 		}
 	}
 
 	@Override
-	@SideOnly(Side.SERVER)
 	public boolean canUpdate()
 	{
 		return false;
 	}
 
-	@Override
+	/**
+	 * Fills the arrays with the history at the selected time scale, newest bucket last.
+	 *
+	 * @return The number of valid buckets at the end of the arrays.
+	 */
 	@SideOnly(Side.CLIENT)
-	public void updateEntity()
+	public int getSeries(int[] min, int[] max, int[] avg)
 	{
-		super.updateEntity();
-		if (worldObj.isRemote)
-		{
-			_valuesClient.pop();
-			_valuesClient.push(_currentValueClient);
-		}
+		_history.advance(worldObj.getTotalWorldTime());
+		return _history.getSeries(_timeScale, min, max, avg);
 	}
 
-	@SideOnly(Side.CLIENT)
-	public Integer[] getValues()
+	public int getTimeScale()
 	{
-		Integer[] values = new Integer[_valuesClient.size()];
-		return _valuesClient.toArray(values);
+		return _timeScale;
 	}
 
-	@SideOnly(Side.CLIENT)
-	public void setClientValue(int value)
+	public void cycleTimeScale()
 	{
-		_currentValueClient = value;
+		_timeScale = (_timeScale + 1) % SignalHistory.TIERS;
 	}
 
 	public void setSelectedSubnet(int newSubnet)
 	{
+		if (newSubnet == _currentSubnet)
+			return;
 		_currentSubnet = newSubnet;
-		if (worldObj.isRemote)
-		{
-			_valuesClient.fill(null);
-		}
-		else
-		{
-			sendValue(_lastValues[_currentSubnet]);
-		}
+		_history.reset(worldObj.getTotalWorldTime(), _lastValues[_currentSubnet]);
 	}
 
 	public void valuesChanged(int[] values)
@@ -127,15 +121,18 @@ public class TileEntityRedNetHistorian extends TileEntityFactory
 				_lastValues[i] = values[i];
 				if (i == _currentSubnet)
 				{
-					sendValue(values[i]);
+					long time = worldObj.getTotalWorldTime();
+					_history.record(time, values[i]);
+					sendValue(time, values[i]);
 				}
 			}
 		}
 	}
 
-	protected void sendValue(int value)
+	protected void sendValue(long time, int value)
 	{
 		NBTTagCompound data = new NBTTagCompound();
+		data.setLong("time", time);
 		data.setInteger("value", value);
 		Packets.sendToAllPlayersInRange(worldObj, xCoord, yCoord, zCoord, 50,
 				new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, 1, data));
@@ -162,6 +159,8 @@ public class TileEntityRedNetHistorian extends TileEntityFactory
 	{
 		super.readFromNBT(nbttagcompound);
 		_currentSubnet = nbttagcompound.getInteger("subnet");
+		_timeScale = nbttagcompound.getInteger("scale") % SignalHistory.TIERS;
+		_history.readFromNBT(nbttagcompound.getCompoundTag("history"));
 	}
 
 	@Override
@@ -169,6 +168,10 @@ public class TileEntityRedNetHistorian extends TileEntityFactory
 	{
 		super.writeToNBT(nbttagcompound);
 		nbttagcompound.setInteger("subnet", _currentSubnet);
+		nbttagcompound.setInteger("scale", _timeScale);
+		NBTTagCompound history = new NBTTagCompound();
+		_history.writeToNBT(history);
+		nbttagcompound.setTag("history", history);
 	}
 
 	@Override
@@ -21,15 +21,18 @@ import net.minecraftforge.common.util.ForgeDirection;
 
 import powercrystals.minefactoryreloaded.api.rednet.IRedNetInputNode;
 import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuit;
+import powercrystals.minefactoryreloaded.api.rednet.IRedNetLogicCircuitInPlace;
 import powercrystals.minefactoryreloaded.api.rednet.IRedNetNetworkContainer;
 import powercrystals.minefactoryreloaded.api.rednet.connectivity.RedNetConnectionType;
 import powercrystals.minefactoryreloaded.circuits.Noop;
+import powercrystals.minefactoryreloaded.core.IWakeable;
 import powercrystals.minefactoryreloaded.item.ItemLogicUpgradeCard;
 import powercrystals.minefactoryreloaded.net.Packets;
+import powercrystals.minefactoryreloaded.net.WakeTickHandler;
 import powercrystals.minefactoryreloaded.setup.MFRThings;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityBase;
 
-public class TileEntityRedNetLogic extends TileEntityBase implements IRotateableTile, IPortableData {
+public class TileEntityRedNetLogic extends TileEntityBase implements IRotateableTile, IPortableData, IWakeable {
 
 	public static class PinMapping {
 
@@ -61,6 +64,22 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 	private PinMapping[][] _pinMappingInputs = new PinMapping[_circuitCount][];
 	private PinMapping[][] _pinMappingOutputs = new PinMapping[_circuitCount][];
 
+	// compiled form of the circuits and their pin mappings; rebuilt lazily whenever either changes
+	// per updatable circuit: circuit, input count, (register, buffer, pin) * inputs, output count, (register, buffer, pin) * outputs
+	private int[] _program = new int[0];
+	private int[][] _inputRegisters = new int[_circuitCount][];
+	private int[][] _outputRegisters = new int[_circuitCount][];
+	private boolean _programDirty = true;
+
+	// circuits are only evaluated when their inputs change, when they are time-dependent, or while settling
+	private boolean[] _timed = new boolean[_circuitCount];
+	private byte[] _settling = new byte[_circuitCount];
+	private boolean _hasTimedCircuit;
+	// per input side, the pins that are read by any circuit
+	private int[] _inputPinMask = new int[6];
+	private boolean _awake, _wakeRequested;
+	private boolean _unloaded;
+
 	private int[] _upgradeLevel = new int[6];
 
 	public int crafters = 0;
@@ -130,6 +149,7 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 	public void setInputPinMapping(int circuitIndex, int pinIndex, int buffer, int pin) {
 
 		_pinMappingInputs[circuitIndex][pinIndex] = new PinMapping(pin, buffer);
+		invalidateProgram();
 	}
 
 	public PinMapping getOutputPinMapping(int circuitIndex, int pinIndex) {
@@ -140,6 +160,7 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 	public void setOutputPinMapping(int circuitIndex, int pinIndex, int buffer, int pin) {
 
 		_pinMappingOutputs[circuitIndex][pinIndex] = new PinMapping(pin, buffer);
+		invalidateProgram();
 	}
 
 	private IRedNetLogicCircuit getNewCircuit(String className) {
@@ -161,6 +182,7 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 
 		_updatable[index] = !(circuit instanceof Noop);
 		_circuits[index] = circuit;
+		invalidateProgram();
 		if (_pinMappingInputs[index] == null) {
 			_pinMappingInputs[index] = new PinMapping[_circuits[index].getInputCount()];
 		} else {
@@ -241,6 +263,7 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 			pins = _pinMappingOutputs[circuitIndex];
 			for (int p = 0; p < len; ++p)
 				pins[p] = new PinMapping(inputs[p << 1], inputs[(p << 1) | 1]);
+			invalidateProgram();
 		} catch (Throwable x) {
 			x.printStackTrace();
 		}
@@ -283,12 +306,54 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 	}
 
 	@Override
-	public void updateEntity() {
+	public boolean canUpdate() {
 
-		if (worldObj.isRemote) {
-			return;
+		return false;
+	}
+
+	@Override
+	public void validate() {
+
+		super.validate();
+		_awake = false;
+		_unloaded = false;
+		wake();
+	}
+
+	@Override
+	public void onChunkUnload() {
+
+		super.onChunkUnload();
+		_unloaded = true;
+	}
+
+	@Override
+	public boolean isNotValid() {
+
+		return _unloaded || isInvalid();
+	}
+
+	private void wake() {
+
+		if (worldObj != null && !worldObj.isRemote) {
+			_wakeRequested = true;
+			if (!_awake) {
+				_awake = true;
+				WakeTickHandler.wake(this);
+			}
 		}
+	}
+
+	private void invalidateProgram() {
+
+		_programDirty = true;
+		wake();
+	}
+
+	@Override
+	public boolean wakeTick() {
 
+		_wakeRequested = false;
 		for (int i = 0; i < 6; i++) {
 			int[] buffer = _buffers[i + 6];
 			int[] backbuffer = _backBuffer[i];
@@ -298,23 +363,47 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 			}
 		}
 
-		for (int circuitNum = 0, e = _circuits.length; circuitNum < e; ++circuitNum) {
-			if (_updatable[circuitNum]) {
-				IRedNetLogicCircuit circuit = _circuits[circuitNum];
-				PinMapping[] mappings = _pinMappingInputs[circuitNum];
-				int[] input = new int[circuit.getInputCount()];
-				for (int pinNum = 0, j = input.length; pinNum < j; ++pinNum) {
-					PinMapping mapping = mappings[pinNum];
-					input[pinNum] = mapping.buffer == 12 ? mapping.pin : _buffers[mapping.buffer][mapping.pin];
+		if (_programDirty) {
+			compileProgram();
+		}
+
+		final long worldTime = worldObj.getTotalWorldTime();
+		final int[] program = _program;
+		final int[][] buffers = _buffers;
+		boolean evaluated = false;
+		for (int pc = 0, e = program.length; pc < e;) {
+			int circuitNum = program[pc++];
+			int[] input = _inputRegisters[circuitNum];
+			boolean changed = false;
+			for (int pins = program[pc++]; pins-- > 0; pc += 3) {
+				int value = buffers[program[pc + 1]][program[pc + 2]];
+				if (input[program[pc]] != value) {
+					input[program[pc]] = value;
+					changed = true;
 				}
+			}
 
-				int[] output = circuit.recalculateOutputValues(worldObj.getTotalWorldTime(), input);
-				mappings = _pinMappingOutputs[circuitNum];
-				for (int pinNum = 0, j = output.length; pinNum < j; ++pinNum) {
-					PinMapping mapping = mappings[pinNum];
-					_buffers[mapping.buffer][mapping.pin] = output[pinNum];
+			int[] output = _outputRegisters[circuitNum];
+			if (changed) {
+				_settling[circuitNum] = 2;
+			}
+			if (_settling[circuitNum] > 0 || _timed[circuitNum]) {
+				if (_settling[circuitNum] > 0) {
+					--_settling[circuitNum];
+				}
+				evaluated = true;
+				IRedNetLogicCircuit circuit = _circuits[circuitNum];
+				if (circuit instanceof IRedNetLogicCircuitInPlace) {
+					((IRedNetLogicCircuitInPlace) circuit).recalculateOutputValues(worldTime, input, output);
+				} else {
+					int[] values = circuit.recalculateOutputValues(worldTime, input);
+					System.arraycopy(values, 0, output, 0, Math.min(values.length, output.length));
 				}
 			}
+
+			for (int pins = program[pc++]; pins-- > 0; pc += 3) {
+				buffers[program[pc + 1]][program[pc + 2]] = output[program[pc]];
+			}
 		}
 
 		BlockPosition bp = this.bp;
@@ -340,7 +429,88 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 				}
 			}
 		}
-		markChunkDirty();
+		if (evaluated) {
+			markChunkDirty();
+		}
+
+		// with nothing evaluated this tick the buffers are a fixed point; sleep until an input or the program changes
+		_awake = evaluated | _hasTimedCircuit | _wakeRequested;
+		return _awake;
+	}
+
+	private void compileProgram() {
+
+		_programDirty = false;
+		if (_inputRegisters.length != _circuits.length) {
+			_inputRegisters = Arrays.copyOf(_inputRegisters, _circuits.length);
+			_outputRegisters = Arrays.copyOf(_outputRegisters, _circuits.length);
+			_timed = new boolean[_circuits.length];
+			_settling = new byte[_circuits.length];
+		}
+		_hasTimedCircuit = false;
+		Arrays.fill(_inputPinMask, 0);
+
+		int size = 0;
+		for (int c = 0, e = _circuits.length; c < e; ++c) {
+			if (_updatable[c]) {
+				size += 3 + (_pinMappingInputs[c].length + _pinMappingOutputs[c].length) * 3;
+			}
+		}
+
+		int[] program = new int[size];
+		int pc = 0;
+		for (int c = 0, e = _circuits.length; c < e; ++c) {
+			if (!_updatable[c]) {
+				continue;
+			}
+			PinMapping[] inputs = _pinMappingInputs[c], outputs = _pinMappingOutputs[c];
+			int[] input = _inputRegisters[c];
+			if (input == null || input.length != inputs.length) {
+				_inputRegisters[c] = input = new int[inputs.length];
+			}
+			if (_outputRegisters[c] == null || _outputRegisters[c].length != outputs.length) {
+				_outputRegisters[c] = new int[outputs.length];
+			}
+
+			IRedNetLogicCircuit circuit = _circuits[c];
+			_timed[c] = !(circuit instanceof IRedNetLogicCircuitInPlace) ||
+					((IRedNetLogicCircuitInPlace) circuit).isTimeDependent();
+			_hasTimedCircuit |= _timed[c];
+			_settling[c] = 2;
+
+			program[pc++] = c;
+			int count = pc++;
+			for (int i = 0; i < inputs.length; ++i) {
+				PinMapping mapping = inputs[i];
+				if (mapping.buffer == 12) {
+					// constants never change between compiles; load them once
+					input[i] = mapping.pin;
+					continue;
+				}
+				if (mapping.buffer < 6) {
+					_inputPinMask[mapping.buffer] |= 1 << mapping.pin;
+				}
+				program[pc++] = i;
+				program[pc++] = mapping.buffer;
+				program[pc++] = mapping.pin;
+			}
+			program[count] = (pc - count - 1) / 3;
+
+			count = pc++;
+			for (int i = 0; i < outputs.length; ++i) {
+				PinMapping mapping = outputs[i];
+				if (mapping.buffer == 14) {
+					// writes to the null buffer are never read
+					continue;
+				}
+				program[pc++] = i;
+				program[pc++] = mapping.buffer;
+				program[pc++] = mapping.pin;
+			}
+			program[count] = (pc - count - 1) / 3;
+		}
+
+		_program = pc == size ? program : Arrays.copyOf(program, pc);
 	}
 
 	public int getOutputValue(ForgeDirection side, int subnet) {
@@ -362,7 +532,17 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 	public void onInputsChanged(ForgeDirection side, int[] values) {
 
 		if (side != ForgeDirection.UNKNOWN) {
-			_buffers[side.ordinal()] = values;
+			// copy rather than keep the caller's array: an adjacent controller hands us its live output buffer
+			int[] inputs = _buffers[side.ordinal()];
+			int length = Math.min(inputs.length, values.length);
+			boolean changed = _programDirty;
+			for (int mask = _inputPinMask[side.ordinal()], pin = 0; !changed & mask != 0 & pin < length; mask >>>= 1, ++pin) {
+				changed = (mask & 1) != 0 && inputs[pin] != values[pin];
+			}
+			System.arraycopy(values, 0, inputs, 0, length);
+			if (changed) {
+				wake();
+			}
 		}
 	}
 
@@ -579,6 +759,7 @@ public class TileEntityRedNetLogic extends TileEntityBase implements IRotateable
 		// re-init circuit array and variable buffer
 		_circuits = Arrays.copyOf(_circuits, _circuitCount);
 		_updatable = Arrays.copyOf(_updatable, _circuitCount);
+		invalidateProgram();
 		_buffers[13] = Arrays.copyOf(_buffers[13], _variableCount);
 
 		// re-init pinmapping arrays
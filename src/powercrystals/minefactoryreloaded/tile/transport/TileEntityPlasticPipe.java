@@ -33,12 +33,14 @@ import net.minecraftforge.fluids.IFluidHandler;
 import net.minecraftforge.fluids.IFluidTank;
 
 import powercrystals.minefactoryreloaded.core.IGridController;
+import powercrystals.minefactoryreloaded.core.INeighborCache;
 import powercrystals.minefactoryreloaded.core.INode;
 import powercrystals.minefactoryreloaded.core.ITraceable;
+import powercrystals.minefactoryreloaded.net.NeighborCacheResolver;
 import powercrystals.minefactoryreloaded.net.Packets;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityBase;
 
-public class TileEntityPlasticPipe extends TileEntityBase implements INode, ITraceable, ICustomHitBox, IFluidHandler
+public class TileEntityPlasticPipe extends TileEntityBase implements INode, INeighborCache, ITraceable, ICustomHitBox, IFluidHandler
 {
 	private byte[] sideMode = {1,1, 1,1,1,1, 0};
 	private IFluidHandler[] handlerCache = null;
@@ -85,9 +87,16 @@ public class TileEntityPlasticPipe extends TileEntityBase implements INode, ITra
 			deadCache = true;
 			_grid = null;
 		}
+		NeighborCacheResolver.cancel(this);
 		super.invalidate();
 	}
 
+	@Override
+	public void onChunkUnload() {
+		NeighborCacheResolver.cancel(this);
+		super.onChunkUnload();
+	}
+
 	@Override
 	public boolean canUpdate() {
 		return false;
@@ -112,8 +121,8 @@ public class TileEntityPlasticPipe extends TileEntityBase implements INode, ITra
 
 	private void reCache() {
 		if (deadCache) {
-			for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS)
-				addCache(BlockPosition.getAdjacentTileEntity(this, dir));
+			// neighbors in chunks that are not loaded yet are filled in by onNeighborResolved when they load
+			NeighborCacheResolver.resolve(this);
 			deadCache = false;
 			// This method is only ever called from the same thread as the tick handler
 			// so this method can be safely called *here* without worrying about threading
@@ -157,22 +166,10 @@ public class TileEntityPlasticPipe extends TileEntityBase implements INode, ITra
 			addCache(tile, 0);
 	}
 
-	private void addCache(TileEntity tile) {
-		if (tile == null) return;
-		int x = tile.xCoord, y = tile.yCoord, z = tile.zCoord;
-
-		if (x < xCoord)
-			addCache(tile, 5);
-		else if (x > xCoord)
-			addCache(tile, 4);
-		else if (z < zCoord)
-			addCache(tile, 3);
-		else if (z > zCoord)
-			addCache(tile, 2);
-		else if (y < yCoord)
-			addCache(tile, 1);
-		else if (y > yCoord)
-			addCache(tile, 0);
+	@Override
+	public void onNeighborResolved(TileEntity tile, int side) {
+		if (tile != null)
+			addCache(tile, side ^ 1);
 	}
 
 	private void addCache(TileEntity tile, int side) {
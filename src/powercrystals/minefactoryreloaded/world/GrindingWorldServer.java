@@ -9,6 +9,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.WorldServer;
 
+import powercrystals.minefactoryreloaded.core.UtilInventory;
 import powercrystals.minefactoryreloaded.tile.base.TileEntityFactoryPowered;
 import powercrystals.minefactoryreloaded.tile.machine.TileEntityGrinder;
 
@@ -19,6 +20,8 @@ public class GrindingWorldServer extends WorldServerProxy
 	protected TileEntityFactoryPowered grinder;
 	protected boolean allowSpawns;
 	protected ArrayList<Entity> entitiesToGrind = new ArrayList<Entity>();
+	protected ArrayList<ItemStack> drops = new ArrayList<ItemStack>();
+	protected boolean collectDrops;
 
 	public GrindingWorldServer(WorldServer world, TileEntityFactoryPowered grinder)
 	{
@@ -52,7 +55,7 @@ public class GrindingWorldServer extends WorldServerProxy
 				if (grinder.manageSolids())
 				{
 					ItemStack drop = ((EntityItem)entity).getEntityItem();
-					if (drop != null) grinder.doDrop(drop);
+					if (drop != null) addDrop(drop);
 				}
 				entity.setDead();
 				return true;
@@ -78,11 +81,13 @@ public class GrindingWorldServer extends WorldServerProxy
 		return true;
 	}
 
+	/**
+	 * Entities stay attached to this world between activations; only {@link #cleanReferences()} and
+	 * {@link #clearReferences()} release them, so a batch of entities can be ground against one snapshot of
+	 * the proxied world's state.
+	 */
 	public boolean addEntityForGrinding(Entity entity)
 	{
-		cofh_updateProps();
-		if (difficultySetting == EnumDifficulty.PEACEFUL)
-			difficultySetting = EnumDifficulty.EASY;
 		if(entity.worldObj == this) return true;
 		if(entity.worldObj == this.proxiedWorld)
 		{
@@ -93,6 +98,34 @@ public class GrindingWorldServer extends WorldServerProxy
 		return false;
 	}
 
+	/**
+	 * Starts merging item drops instead of passing each one to the machine; {@link #flushDrops()} hands them
+	 * over in one go.
+	 */
+	public void collectDrops()
+	{
+		collectDrops = true;
+	}
+
+	public void addDrop(ItemStack drop)
+	{
+		if (collectDrops)
+			UtilInventory.addToStacks(drops, drop);
+		else if (grinder != null)
+			grinder.doDrop(drop);
+	}
+
+	public void flushDrops()
+	{
+		collectDrops = false;
+		if (drops.size() > 0)
+		{
+			if (grinder != null)
+				grinder.doDrop(drops);
+			drops.clear();
+		}
+	}
+
 	public void clearReferences()
 	{
 		for(Entity ent : entitiesToGrind)
@@ -102,12 +135,19 @@ public class GrindingWorldServer extends WorldServerProxy
 		entitiesToGrind.clear();
 	}
 
+	/**
+	 * Drops dead entities and refreshes the proxied world's state; call once before each batch of
+	 * {@link #addEntityForGrinding(Entity)}.
+	 */
 	public void cleanReferences()
 	{
+		cofh_updateProps();
+		if (difficultySetting == EnumDifficulty.PEACEFUL)
+			difficultySetting = EnumDifficulty.EASY;
 		for(int i = entitiesToGrind.size(); i --> 0;)
 		{
 			Entity ent = entitiesToGrind.get(i);
-			if(ent.isDead) entitiesToGrind.remove(ent);
+			if(ent.isDead) entitiesToGrind.remove(i);
 		}
 	}
 
@@ -3,10 +3,12 @@ package powercrystals.minefactoryreloaded.world;
 import static powercrystals.minefactoryreloaded.setup.MFRThings.*;
 
 import cofh.api.world.IFeatureGenerator;
-import com.google.common.primitives.Ints;
+
+import gnu.trove.set.hash.TIntHashSet;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 
 import net.minecraft.world.World;
@@ -17,13 +19,23 @@ import powercrystals.minefactoryreloaded.setup.MFRConfig;
 
 public class MineFactoryReloadedWorldGen implements IFeatureGenerator
 {
-	private static List<Integer> _blacklistedDimensions;
+	private static TIntHashSet _blacklistedDimensions;
 	private static List<String> _sludgeBiomeList, _sewageBiomeList, _rubberTreeBiomeList;
+
+	// everything generateFeature needs to know about a biome, by biome id; 0 means not looked at yet
+	private static final byte RESOLVED = 1, RUBBER_TREES = 2, MEGA_TREES = 4, SACRED_TREES = 8,
+			SLUDGE_LAKES = 16, SEWAGE_LAKES = 32, MUSHROOM_LAKES = 64;
+	private static final byte[] _biomeFlags = new byte[BiomeGenBase.getBiomeGenArray().length];
 	private static boolean _sludgeLakeMode, _sewageLakeMode, _rubberTreesEnabled;
 	private static boolean _lakesEnabled;
 	private static boolean _regenSewage, _regenSludge, _regenTrees;
 	private static int _sludgeLakeRarity, _sewageLakeRarity;
 
+	// the generators only hold their settings, so one of each is shared. Features are still decided and placed
+	// in one pass on the generating thread, as placement draws from the same random that picks the spots.
+	private static final WorldGenRubberTree _rubberTree = new WorldGenRubberTree(false);
+	private static WorldGenLakesMeta _sludgeLake, _sewageLake, _mushroomSoupLake;
+
 	public static boolean generateMegaRubberTree(World world, Random random, int x, int y, int z, boolean safe)
 	{
 		return new WorldGenMassiveTree(false).setTreeScale(4 + (random.nextInt(3)), 0.8f, 0.7f).
@@ -66,23 +78,22 @@ public class MineFactoryReloadedWorldGen implements IFeatureGenerator
 		if (b == null)
 			return false;
 
-		String biomeName = b.biomeName;
+		int flags = getBiomeFlags(b);
 
 		if (_rubberTreesEnabled & (newGen | _regenTrees))
 		{
-			if (_rubberTreeBiomeList.contains(biomeName))
+			if ((flags & RUBBER_TREES) != 0)
 			{
 				if (random.nextInt(100) < 40)
 				{
 					if (random.nextInt(30) == 0)
 					{
-						String ln = biomeName.toLowerCase();
-						if (ln.contains("mega"))
+						if ((flags & MEGA_TREES) != 0)
 							generateMegaRubberTree(world, random, x, world.getHeightValue(x, z), z, false);
-						else if (ln.contains("sacred") && random.nextInt(20) == 0)
+						else if ((flags & SACRED_TREES) != 0 && random.nextInt(20) == 0)
 							generateSacredSpringRubberTree(world, random, x, world.getHeightValue(x, z), z);
 					}
-					new WorldGenRubberTree(false).generate(world, random, x, random.nextInt(3) + 4, z);
+					_rubberTree.generate(world, random, x, random.nextInt(3) + 4, z);
 				}
 			}
 		}
@@ -91,31 +102,30 @@ public class MineFactoryReloadedWorldGen implements IFeatureGenerator
 		{
 			int rarity = _sludgeLakeRarity;
 			if (rarity > 0 & (newGen | _regenSludge) &&
-					_sludgeBiomeList.contains(biomeName) == _sludgeLakeMode &&
+					(flags & SLUDGE_LAKES) != 0 &&
 					random.nextInt(rarity) == 0)
 			{
 				int lakeX = x - 8 + random.nextInt(16);
 				int lakeY = random.nextInt(world.getActualHeight());
 				int lakeZ = z - 8 + random.nextInt(16);
-				new WorldGenLakesMeta(sludgeLiquid, 0).generate(world, random, lakeX, lakeY, lakeZ);
+				_sludgeLake.generate(world, random, lakeX, lakeY, lakeZ);
 			}
 
 			rarity = _sewageLakeRarity;
 			if (rarity > 0 & (newGen | _regenSewage) &&
-					_sewageBiomeList.contains(biomeName) == _sewageLakeMode &&
+					(flags & SEWAGE_LAKES) != 0 &&
 					random.nextInt(rarity) == 0)
 			{
 				int lakeX = x - 8 + random.nextInt(16);
 				int lakeY = random.nextInt(world.getActualHeight());
 				int lakeZ = z - 8 + random.nextInt(16);
-				String ln = biomeName.toLowerCase();
-				if (ln.contains("mushroom"))
+				if ((flags & MUSHROOM_LAKES) != 0)
 				{
-					new WorldGenLakesMeta(mushroomSoupLiquid, 0).generate(world, random, lakeX, lakeY, lakeZ);
+					_mushroomSoupLake.generate(world, random, lakeX, lakeY, lakeZ);
 				}
 				else
 				{
-					new WorldGenLakesMeta(sewageLiquid, 0).generate(world, random, lakeX, lakeY, lakeZ);
+					_sewageLake.generate(world, random, lakeX, lakeY, lakeZ);
 				}
 			}
 		}
@@ -123,9 +133,48 @@ public class MineFactoryReloadedWorldGen implements IFeatureGenerator
 		return true;
 	}
 
+	private static int getBiomeFlags(BiomeGenBase b)
+	{
+		int id = b.biomeID;
+		if (id < 0 | id >= _biomeFlags.length)
+			return resolveBiomeFlags(b);
+		int flags = _biomeFlags[id];
+		if (flags == 0)
+			_biomeFlags[id] = (byte)(flags = resolveBiomeFlags(b));
+		return flags;
+	}
+
+	private static int resolveBiomeFlags(BiomeGenBase b)
+	{
+		String biomeName = b.biomeName;
+		String ln = biomeName == null ? "" : biomeName.toLowerCase(Locale.ENGLISH);
+		int flags = RESOLVED;
+		if (_rubberTreeBiomeList.contains(biomeName))
+			flags |= RUBBER_TREES;
+		if (ln.contains("mega"))
+			flags |= MEGA_TREES;
+		if (ln.contains("sacred"))
+			flags |= SACRED_TREES;
+		if (_sludgeBiomeList.contains(biomeName) == _sludgeLakeMode)
+			flags |= SLUDGE_LAKES;
+		if (_sewageBiomeList.contains(biomeName) == _sewageLakeMode)
+			flags |= SEWAGE_LAKES;
+		if (ln.contains("mushroom"))
+			flags |= MUSHROOM_LAKES;
+		return flags;
+	}
+
+	/**
+	 * Forgets what is known about each biome, so lists changed after world generation started take effect.
+	 */
+	public static void clearBiomeFlags()
+	{
+		Arrays.fill(_biomeFlags, (byte)0);
+	}
+
 	private static void buildBlacklistedDimensions()
 	{
-		_blacklistedDimensions = Ints.asList(MFRConfig.worldGenDimensionBlacklist.getIntList());
+		_blacklistedDimensions = new TIntHashSet(MFRConfig.worldGenDimensionBlacklist.getIntList());
 
 		_rubberTreeBiomeList = MFRRegistry.getRubberTreeBiomes();
 		_rubberTreesEnabled = MFRConfig.rubberTreeWorldGen.getBoolean(true);
@@ -143,5 +192,10 @@ public class MineFactoryReloadedWorldGen implements IFeatureGenerator
 		_regenSewage = MFRConfig.mfrLakeSewageRetrogen.getBoolean(false);
 		_regenSludge = MFRConfig.mfrLakeSludgeRetrogen.getBoolean(false);
 		_regenTrees = MFRConfig.rubberTreeRetrogen.getBoolean(false);
+		clearBiomeFlags();
+
+		_sludgeLake = new WorldGenLakesMeta(sludgeLiquid, 0);
+		_sewageLake = new WorldGenLakesMeta(sewageLiquid, 0);
+		_mushroomSoupLake = new WorldGenLakesMeta(mushroomSoupLiquid, 0);
 	}
 }
@@ -1,6 +1,12 @@
 package powercrystals.minefactoryreloaded.world;
 
+import gnu.trove.map.hash.TIntObjectHashMap;
+
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.Entity;
@@ -20,9 +26,17 @@ public class SmashingWorld extends WorldProxy
 	protected int meta;
 	protected int x = 0, y = 1, z = 0;
 
+	protected static final int SAMPLES = 8, REFRESH = 8;
+	// keyed by the block itself: ids are remapped per save, and one client can open several saves
+	protected static Map<Block, TIntObjectHashMap<SmashResult>> results = new IdentityHashMap<Block, TIntObjectHashMap<SmashResult>>();
+
+	protected final CountingRandom _rand;
+	protected boolean _usedRandom;
+
 	public SmashingWorld(World world)
 	{
 		super(world);
+		rand = _rand = new CountingRandom();
 	}
 
 	@Override
@@ -83,18 +97,119 @@ public class SmashingWorld extends WorldProxy
 		return 0;
 	}
 
+	/**
+	 * Returns the drops of <tt>block</tt>, or null if it has none or only drops itself. The list and its stacks
+	 * are the caller's to modify.
+	 * <p>
+	 * Results are cached per block, meta and fortune. Blocks whose drops are deterministic (every sample is the
+	 * same and none of them drew from the world's random) are answered from the cache outright; the rest are
+	 * drawn from a pool of sampled results. Every {@link #REFRESH}th smash of a block still calls getDrops, and
+	 * that fresh result replaces a pooled one, so the pool follows the real distribution and a block whose
+	 * randomness went unnoticed is corrected once it drops something else.
+	 */
 	public ArrayList<ItemStack> smashBlock(ItemStack input, Block block, int meta, int fortune)
 	{
-		ArrayList<ItemStack> drops = null;
-		if (block != null)
+		if (block == null)
+			return null;
+
+		TIntObjectHashMap<SmashResult> blockResults = results.get(block);
+		if (blockResults == null)
+		{
+			blockResults = new TIntObjectHashMap<SmashResult>();
+			results.put(block, blockResults);
+		}
+		int key = ((meta & 0xFFFF) << 8) | (fortune & 0xFF);
+		SmashResult result = blockResults.get(key);
+		ArrayList<ItemStack> drops;
+		if (result == null)
+		{
+			result = new SmashResult();
+			drops = result.samples[0] = getDrops(block, meta, fortune);
+			result.exact = !_usedRandom;
+			for (int i = 1; i < SAMPLES; ++i)
+			{
+				ArrayList<ItemStack> sample = result.samples[i] = getDrops(block, meta, fortune);
+				result.exact &= !_usedRandom && dropsEqual(drops, sample);
+			}
+			blockResults.put(key, result);
+		}
+		else if (++result.uses % REFRESH == 0)
 		{
-			this.meta = meta;
-			this.block = block;
-			drops = block.getDrops(this, x, y, z, meta, fortune);
-			if (drops.size() == 1)
-				if (UtilInventory.stacksEqual(drops.get(0), input, false))
-					return null;
+			drops = getDrops(block, meta, fortune);
+			if (result.exact && (_usedRandom || !dropsEqual(drops, result.samples[0])))
+				result.exact = false;
+			result.samples[rand.nextInt(SAMPLES)] = drops;
 		}
+		else
+			drops = result.samples[result.exact ? 0 : rand.nextInt(SAMPLES)];
+
+		if (drops.size() == 0)
+			return null;
+		if (drops.size() == 1 && UtilInventory.stacksEqual(drops.get(0), input, false))
+			return null;
+		ArrayList<ItemStack> r = new ArrayList<ItemStack>(drops.size());
+		for (int i = 0, e = drops.size(); i < e; ++i)
+			r.add(drops.get(i).copy());
+		return r;
+	}
+
+	public boolean isExactResult(Block block, int meta, int fortune)
+	{
+		TIntObjectHashMap<SmashResult> blockResults = results.get(block);
+		if (blockResults == null)
+			return false;
+		SmashResult result = blockResults.get(((meta & 0xFFFF) << 8) | (fortune & 0xFF));
+		return result != null && result.exact;
+	}
+
+	private ArrayList<ItemStack> getDrops(Block block, int meta, int fortune)
+	{
+		this.meta = meta;
+		this.block = block;
+		int draws = _rand.draws;
+		ArrayList<ItemStack> raw = block.getDrops(this, x, y, z, meta, fortune);
+		_usedRandom = _rand.draws != draws;
+		ArrayList<ItemStack> drops = new ArrayList<ItemStack>(raw == null ? 0 : raw.size());
+		if (raw != null)
+			for (int i = 0, e = raw.size(); i < e; ++i)
+				UtilInventory.addToStacks(drops, raw.get(i));
 		return drops;
 	}
+
+	private static boolean dropsEqual(List<ItemStack> a, List<ItemStack> b)
+	{
+		int i = a.size();
+		if (i != b.size())
+			return false;
+		while (i --> 0)
+		{
+			ItemStack x = a.get(i), y = b.get(i);
+			if (x.stackSize != y.stackSize || !UtilInventory.stacksEqual(x, y))
+				return false;
+		}
+		return true;
+	}
+
+	protected static final class SmashResult
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayList<ItemStack>[] samples = new ArrayList[SAMPLES];
+		boolean exact;
+		int uses;
+	}
+
+	/**
+	 * Lets getDrops be checked for whether it rolled any dice.
+	 */
+	protected static final class CountingRandom extends Random
+	{
+		int draws;
+
+		@Override
+		protected int next(int bits)
+		{
+			++draws;
+			return super.next(bits);
+		}
+	}
 }
@@ -77,7 +77,9 @@ public class WorldGenMassiveTree extends WorldGenerator
 	private void setup() {
 		leafBases = MathHelper.ceiling_float_int(heightLimit * heightAttenuation);
 		density = Math.max(1, (int)(1.382D + Math.pow(branchDensity * heightLimit / 13.0D, 2.0D)));
-		chunkMap = new TLongObjectHashMap<Chunk>((int) (scaleWidth * heightLimit));
+		chunkMap = new TLongObjectHashMap<TouchedChunk>((int) (scaleWidth * heightLimit));
+		lastChunk = null;
+		lastSection = null;
 	}
 
 	private float layerSize(int par1)
@@ -591,10 +593,14 @@ public class WorldGenMassiveTree extends WorldGenerator
 			//logger.info(String.format("%s for trunk, %s for leaf nodes, %s for leaves, %s for branches", trunk, nodes, leaves, bases));
 			//logger.info("\tTree contains " + blocksAdded + " Blocks");
 			//time = System.nanoTime();
-			for (TLongObjectIterator<Chunk> iter = chunkMap.iterator(); iter.hasNext(); ) {
+			for (TLongObjectIterator<TouchedChunk> iter = chunkMap.iterator(); iter.hasNext(); ) {
 				iter.advance();
-				MineFactoryReloadedCore.proxy.relightChunk(iter.value());
+				TouchedChunk t = iter.value();
+				MineFactoryReloadedCore.proxy.relightColumns(t.chunk, t.columns);
 			}
+			chunkMap = null;
+			lastChunk = null;
+			lastSection = null;
 			//time = System.nanoTime() - time;
 			//logger.info("Lit massive rubber tree in: " + time + "ns");
 			return true;
@@ -603,7 +609,25 @@ public class WorldGenMassiveTree extends WorldGenerator
 
 	//private static final org.apache.logging.log4j.Logger logger = org.apache.logging.log4j.LogManager.getLogger("Tree logger");
 	//private int blocksAdded = 0;
-	private TLongObjectHashMap<Chunk> chunkMap;
+	private TLongObjectHashMap<TouchedChunk> chunkMap;
+
+	/** The chunk and section of the previous write; trees write in long runs through the same section */
+	private TouchedChunk lastChunk;
+	private int lastChunkX, lastChunkZ;
+	private ExtendedBlockStorage lastSection;
+	private int lastSectionY;
+
+	private static final class TouchedChunk
+	{
+		final Chunk chunk;
+		/** One bit per column written to: bit x of columns[z] */
+		final short[] columns = new short[16];
+
+		TouchedChunk(Chunk chunk)
+		{
+			this.chunk = chunk;
+		}
+	}
 
 	@Override
 	public void setBlockAndNotifyAdequately(World world, int x, int y, int z, Block block, int meta)
@@ -611,27 +635,47 @@ public class WorldGenMassiveTree extends WorldGenerator
 		if ((y < 0) | y > 255)
 			return;
 		//++blocksAdded;
-		long pos = (((long)(x & ~15)) << 32) | (z & ~15);
-
-		Chunk chunk;// = chunkMap.get(pos);
-		//if (chunk == null)
+		int cX = x >> 4, cZ = z >> 4;
+		TouchedChunk touched = lastChunk;
+		if (touched == null || cX != lastChunkX || cZ != lastChunkZ)
 		{
-			chunk = world.getChunkFromBlockCoords(x, z);
-			chunkMap.put(pos, chunk);
+			long pos = ((long)cX << 32) | (cZ & 0xFFFFFFFFL);
+			touched = chunkMap.get(pos);
+			if (touched == null)
+			{
+				touched = new TouchedChunk(world.getChunkFromChunkCoords(cX, cZ));
+				chunkMap.put(pos, touched);
+			}
+			lastChunk = touched;
+			lastChunkX = cX;
+			lastChunkZ = cZ;
+			lastSection = null;
 		}
+		Chunk chunk = touched.chunk;
 
-		ExtendedBlockStorage[] storage = chunk.getBlockStorageArray();
-		ExtendedBlockStorage subChunk = storage[y >> 4];
-		if (subChunk == null)
-			storage[y >> 4] = subChunk = new ExtendedBlockStorage(y & ~15, !world.provider.hasNoSky);
+		ExtendedBlockStorage subChunk = lastSection;
+		if (subChunk == null || lastSectionY != y >> 4)
+		{
+			ExtendedBlockStorage[] storage = chunk.getBlockStorageArray();
+			subChunk = storage[y >> 4];
+			if (subChunk == null)
+				storage[y >> 4] = subChunk = new ExtendedBlockStorage(y & ~15, !world.provider.hasNoSky);
+			lastSection = subChunk;
+			lastSectionY = y >> 4;
+		}
 
 		x &= 15; z &= 15;
-		if (subChunk.getBlockByExtId(x, y & 15, z).hasTileEntity(subChunk.getExtBlockMetadata(x, y & 15, z)))
-			chunk.removeTileEntity(x & 15, y, z & 15);
-		y &= 15;
+		int yS = y & 15;
+		if (!chunk.chunkTileEntityMap.isEmpty())
+		{
+			Block old = subChunk.getBlockByExtId(x, yS, z);
+			if (old != Blocks.air && old.hasTileEntity(subChunk.getExtBlockMetadata(x, yS, z)))
+				chunk.removeTileEntity(x, y, z);
+		}
 
-		subChunk.func_150818_a(x, y, z, block);
-		subChunk.setExtBlockMetadata(x, y, z, meta);
-		subChunk.setExtBlocklightValue(x, y, z, 0);
+		subChunk.func_150818_a(x, yS, z, block);
+		subChunk.setExtBlockMetadata(x, yS, z, meta);
+		subChunk.setExtBlocklightValue(x, yS, z, 0);
+		touched.columns[z] |= 1 << x;
 	}
 }